@@ -0,0 +1,15 @@
+package nexters.payout.apiserver.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서만 @Async 이벤트 처리를 활성화합니다.
+ */
+@EnableAsync
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class AsyncConfig {
+}
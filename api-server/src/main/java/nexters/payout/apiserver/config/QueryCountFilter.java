@@ -0,0 +1,86 @@
+package nexters.payout.apiserver.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import nexters.payout.domain.common.query.QueryCounter;
+import nexters.payout.domain.common.query.QueryStatistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 요청마다 실행된 JDBC 구문 수와 총 실행 시간을 집계합니다.
+ * header-enabled 인 경우 응답 헤더로 내려주고, MeterRegistry가 있으면 URI 패턴별 메트릭으로 기록합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time";
+
+    private final QueryCountProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        if (!Boolean.TRUE.equals(properties.getHeaderEnabled())) {
+            QueryCounter.start();
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                record(request, QueryCounter.stop());
+            }
+            return;
+        }
+
+        // 본문이 쓰이면 헤더를 추가할 수 없으므로 본문을 버퍼링한 뒤 헤더를 먼저 기록합니다.
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            QueryStatistics statistics = QueryCounter.stop();
+            wrapper.setHeader(QUERY_COUNT_HEADER, String.valueOf(statistics.getCount()));
+            wrapper.setHeader(QUERY_TIME_HEADER, String.valueOf(statistics.getElapsedMillis()));
+            record(request, statistics);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void record(final HttpServletRequest request, final QueryStatistics statistics) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("JDBC statements executed per request")
+                .tag("uri", uri)
+                .register(registry)
+                .record(statistics.getCount());
+        Timer.builder("http.server.requests.query.time")
+                .description("Total JDBC execution time per request")
+                .tag("uri", uri)
+                .register(registry)
+                .record(Duration.ofMillis(statistics.getElapsedMillis()));
+    }
+}
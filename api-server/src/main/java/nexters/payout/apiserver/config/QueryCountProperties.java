@@ -0,0 +1,12 @@
+package nexters.payout.apiserver.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("query-count")
+@RequiredArgsConstructor
+@Getter
+public class QueryCountProperties {
+    final Boolean headerEnabled;
+}
@@ -1,12 +1,26 @@
 package nexters.payout.apiserver.config;
 
+import lombok.RequiredArgsConstructor;
+import nexters.payout.apiserver.config.datasource.ReadYourWritesInterceptor;
+import nexters.payout.apiserver.stock.presentation.StockController;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ReadYourWritesInterceptor readYourWritesInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWritesInterceptor)
+                .addPathPatterns("/api/portfolios/**");
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -14,6 +28,8 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns("*")
                 .allowedMethods("*")
                 .allowedHeaders("*")
+                .exposedHeaders(StockController.NEXT_CURSOR_HEADER, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED,
+                        QueryCountFilter.QUERY_COUNT_HEADER, QueryCountFilter.QUERY_TIME_HEADER)
                 .allowCredentials(true);
     }
 }
\ No newline at end of file
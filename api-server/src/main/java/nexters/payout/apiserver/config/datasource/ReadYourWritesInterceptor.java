@@ -0,0 +1,48 @@
+package nexters.payout.apiserver.config.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 경로의 {id}가 최근에 쓰인 리소스이면 해당 요청의 읽기 전용 트랜잭션을 primary로 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final String ID = "id";
+
+    private final RecentWrites recentWrites;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.get(ID) == null) {
+            return true;
+        }
+
+        try {
+            if (recentWrites.contains(UUID.fromString(variables.get(ID)))) {
+                ReplicationContext.forcePrimary();
+            }
+        } catch (IllegalArgumentException ignored) {
+            // 잘못된 ID는 컨트롤러에서 400으로 응답합니다.
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+                                final Object handler, final Exception ex) {
+        ReplicationContext.clear();
+    }
+}
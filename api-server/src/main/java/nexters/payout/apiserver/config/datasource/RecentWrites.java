@@ -0,0 +1,35 @@
+package nexters.payout.apiserver.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 최근에 생성, 갱신된 리소스 ID를 read-your-writes 구간 동안 보관합니다.
+ * 구간 안의 리소스 조회는 복제 지연과 관계없이 primary에서 읽습니다.
+ */
+@Component
+public class RecentWrites {
+
+    private final Cache<UUID, Boolean> written;
+
+    public RecentWrites(final ReplicationProperties properties) {
+        Duration window = properties.getReadYourWritesWindow();
+        this.written = Boolean.TRUE.equals(properties.getEnabled()) && window != null && !window.isZero()
+                ? Caffeine.newBuilder().expireAfterWrite(window).maximumSize(100_000).build()
+                : null;
+    }
+
+    public void mark(final UUID id) {
+        if (written != null) {
+            written.put(id, Boolean.TRUE);
+        }
+    }
+
+    public boolean contains(final UUID id) {
+        return written != null && written.getIfPresent(id) != null;
+    }
+}
@@ -0,0 +1,24 @@
+package nexters.payout.apiserver.config.datasource;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션도 primary로 보내야 하는지 보관합니다.
+ */
+public final class ReplicationContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReplicationContext() {
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+    }
+}
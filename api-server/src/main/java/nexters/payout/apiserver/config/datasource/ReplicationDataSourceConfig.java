@@ -0,0 +1,84 @@
+package nexters.payout.apiserver.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import nexters.payout.apiserver.config.datasource.ReplicationProperties.Replica;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * datasource.replication.enabled 인 경우 읽기 전용 트랜잭션을 replica로 보내는 DataSource를 구성합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replication", name = "enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    private static final long REPLICA_CONNECTION_TIMEOUT_MILLIS = 1000L;
+
+    private ReplicationRoutingDataSource routingDataSource;
+
+    @Bean(destroyMethod = "close")
+    public ReplicationRoutingDataSource replicationRoutingDataSource(final DataSourceProperties dataSourceProperties,
+                                                                     final ReplicationProperties properties,
+                                                                     final Environment environment) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<Replica> configured = properties.getReplicas() == null ? List.of() : properties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            String key = "replica-" + (i + 1);
+            replicas.put(key, replica(key, configured.get(i), dataSourceProperties));
+        }
+
+        routingDataSource = new ReplicationRoutingDataSource(primary, replicas);
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replication.health-check-interval:PT10S}")
+    public void checkReplicas() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicas();
+        }
+    }
+
+    /**
+     * replica 장애 시 요청이 오래 대기하지 않고 primary로 넘어가도록 연결 대기 시간을 짧게 둡니다.
+     */
+    private HikariDataSource replica(final String key, final Replica replica, final DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(key);
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username());
+        dataSource.setPassword(replica.password());
+        dataSource.setReadOnly(true);
+        dataSource.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT_MILLIS);
+        dataSource.setInitializationFailTimeout(-1);
+        if (replica.maximumPoolSize() != null) {
+            dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        }
+        return dataSource;
+    }
+}
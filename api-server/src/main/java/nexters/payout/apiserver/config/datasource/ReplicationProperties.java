@@ -0,0 +1,25 @@
+package nexters.payout.apiserver.config.datasource;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties("datasource.replication")
+@RequiredArgsConstructor
+@Getter
+public class ReplicationProperties {
+    final Boolean enabled;
+    final List<Replica> replicas;
+    final Duration readYourWritesWindow;
+
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            Integer maximumPoolSize
+    ) {
+    }
+}
@@ -0,0 +1,118 @@
+package nexters.payout.apiserver.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 정상 상태인 replica에 번갈아 보내고, 그 외의 요청은 primary로 보냅니다.
+ * 정상 replica가 없거나 replica 연결에 실패하면 primary를 사용합니다.
+ * 트랜잭션의 읽기 전용 여부가 정해진 뒤 연결을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(final DataSource primary, final Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.healthyReplicas.addAll(replicaKeys);
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReplicationContext.isPrimaryForced()) {
+            return PRIMARY;
+        }
+
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            String key = replicaKeys.get(Math.floorMod(counter.getAndIncrement(), replicaKeys.size()));
+            if (healthyReplicas.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            markUnhealthy(key.toString(), e);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 모든 replica의 연결 상태를 확인해 정상 replica 목록을 갱신합니다.
+     */
+    public void checkReplicas() {
+        replicas.forEach((key, dataSource) -> {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markUnhealthy(key, null);
+                    return;
+                }
+                if (healthyReplicas.add(key)) {
+                    log.info("replica {} is back in rotation", key);
+                }
+            } catch (SQLException e) {
+                markUnhealthy(key, e);
+            }
+        });
+    }
+
+    public Set<String> getHealthyReplicas() {
+        return Set.copyOf(healthyReplicas);
+    }
+
+    private void markUnhealthy(final String key, final Exception cause) {
+        if (healthyReplicas.remove(key)) {
+            log.warn("replica {} is removed from rotation", key, cause);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package nexters.payout.apiserver.config.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * http.server.requests 메트릭에 요청 본문 크기 구간(payload.size) 태그를 추가합니다. 본문이 없는 요청은 none 입니다.
+ */
+@Component
+public class PayloadSizeObservationConvention extends DefaultServerRequestObservationConvention {
+
+    private static final String PAYLOAD_SIZE = "payload.size";
+    private static final String NONE = "none";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(final ServerRequestObservationContext context) {
+        Object sizeClass = context.getCarrier().getAttribute(PayloadSizeRequestBodyAdvice.PAYLOAD_SIZE_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context)
+                .and(PAYLOAD_SIZE, sizeClass == null ? NONE : sizeClass.toString());
+    }
+}
@@ -0,0 +1,58 @@
+package nexters.payout.apiserver.config.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * 읽어들인 요청 본문의 크기 구간을 요청 속성에 기록합니다.
+ */
+@ControllerAdvice
+public class PayloadSizeRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    static final String PAYLOAD_SIZE_ATTRIBUTE = PayloadSizeRequestBodyAdvice.class.getName() + ".payloadSize";
+
+    @Override
+    public boolean supports(final MethodParameter methodParameter, final Type targetType,
+                            final Class<? extends HttpMessageConverter<?>> converterType) {
+        return PayloadSized.class.isAssignableFrom(methodParameter.getParameterType());
+    }
+
+    @Override
+    public Object afterBodyRead(final Object body, final HttpInputMessage inputMessage, final MethodParameter parameter,
+                                final Type targetType, final Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && body instanceof PayloadSized payload) {
+            attributes.setAttribute(PAYLOAD_SIZE_ATTRIBUTE, sizeClass(payload.payloadSize()), RequestAttributes.SCOPE_REQUEST);
+        }
+        return body;
+    }
+
+    /**
+     * 태그 값의 종류가 늘어나지 않도록 크기를 구간으로 묶습니다. 빈 본문(0)은 따로 구분합니다.
+     */
+    static String sizeClass(final int size) {
+        if (size <= 0) {
+            return "0";
+        }
+        if (size == 1) {
+            return "1";
+        }
+        if (size <= 5) {
+            return "2-5";
+        }
+        if (size <= 20) {
+            return "6-20";
+        }
+        if (size <= 100) {
+            return "21-100";
+        }
+        return "101+";
+    }
+}
@@ -0,0 +1,9 @@
+package nexters.payout.apiserver.config.metrics;
+
+/**
+ * 요청 본문의 크기(티커 수 등)를 알려주는 요청 DTO입니다. 응답 시간 메트릭의 payload.size 태그로 사용됩니다.
+ */
+public interface PayloadSized {
+
+    int payloadSize();
+}
@@ -0,0 +1,6 @@
+package nexters.payout.apiserver.dataversion.application;
+
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+
+public record DataVersionChangedEvent(DataVersionType type, Long version) {
+}
@@ -0,0 +1,61 @@
+package nexters.payout.apiserver.dataversion.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nexters.payout.domain.dataversion.domain.DataVersion;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import nexters.payout.domain.dataversion.domain.repository.DataVersionRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DataVersionWatcher {
+
+    private final DataVersionRepository dataVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<DataVersionType, DataVersion> dataVersions = new ConcurrentHashMap<>();
+    private boolean initialized = false;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 마지막으로 확인한 데이터 버전을 반환하며, 아직 확인하지 않았다면 비어 있습니다.
+     */
+    public Map<DataVersionType, DataVersion> getDataVersions() {
+        return Map.copyOf(dataVersions);
+    }
+
+    /**
+     * 배치 작업이 갱신한 데이터 버전을 주기적으로 확인하고, 버전이 바뀐 경우 변경 이벤트를 발행합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${schedules.data-version.initial-delay}",
+            fixedDelayString = "${schedules.data-version.fixed-delay}"
+    )
+    public void refresh() {
+        lock.lock();
+        try {
+            List<DataVersion> currentVersions = dataVersionRepository.findAll();
+            dataVersions.keySet().retainAll(currentVersions.stream().map(DataVersion::getType).toList());
+            for (DataVersion dataVersion : currentVersions) {
+                DataVersion previousVersion = dataVersions.put(dataVersion.getType(), dataVersion);
+                Long previous = previousVersion == null ? null : previousVersion.getVersion();
+
+                if (initialized && !dataVersion.getVersion().equals(previous)) {
+                    log.info("data version changed: {} {} -> {}", dataVersion.getType(), previous, dataVersion.getVersion());
+                    eventPublisher.publishEvent(new DataVersionChangedEvent(dataVersion.getType(), dataVersion.getVersion()));
+                }
+            }
+            initialized = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
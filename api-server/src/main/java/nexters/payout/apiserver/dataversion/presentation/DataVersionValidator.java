@@ -0,0 +1,52 @@
+package nexters.payout.apiserver.dataversion.presentation;
+
+import lombok.RequiredArgsConstructor;
+import nexters.payout.apiserver.dataversion.application.DataVersionWatcher;
+import nexters.payout.core.time.InstantProvider;
+import nexters.payout.domain.dataversion.domain.DataVersion;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * 배치 작업이 갱신하는 데이터 버전과 오늘 날짜(UTC)로 ETag, Last-Modified 를 만들어 조건부 요청을 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataVersionValidator {
+
+    private final DataVersionWatcher dataVersionWatcher;
+
+    /**
+     * 클라이언트가 가진 응답이 최신이라면 304 응답을 준비하고 true 를 반환합니다.
+     * 304 응답이 데이터베이스를 조회하지 않도록 DataVersionWatcher가 메모리에 보관한 데이터 버전을 사용합니다.
+     * 응답 캐시도 같은 버전 변경 이벤트로 무효화되므로, ETag는 실제로 내려줄 본문과 같은 버전을 가리킵니다.
+     * 데이터 버전이 아직 없다면 항상 false 를 반환합니다.
+     */
+    public boolean checkNotModified(final WebRequest request) {
+        Map<DataVersionType, DataVersion> dataVersions = dataVersionWatcher.getDataVersions();
+        if (dataVersions.size() != DataVersionType.values().length) {
+            return false;
+        }
+
+        Instant now = Instant.now();
+        StringBuilder etag = new StringBuilder("W/\"");
+        Instant lastModified = InstantProvider.getStartOfDay(now);
+        for (DataVersionType type : DataVersionType.values()) {
+            DataVersion dataVersion = dataVersions.get(type);
+            etag.append(dataVersion.getVersion()).append('-');
+            if (dataVersion.getUpdatedAt() != null && dataVersion.getUpdatedAt().isAfter(lastModified)) {
+                lastModified = dataVersion.getUpdatedAt();
+            }
+        }
+        etag.append(LocalDate.ofInstant(now, UTC)).append('"');
+
+        return request.checkNotModified(etag.toString(), lastModified.toEpochMilli());
+    }
+}
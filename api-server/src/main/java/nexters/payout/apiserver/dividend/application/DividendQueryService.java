@@ -17,9 +17,15 @@ import nexters.payout.domain.stock.domain.repository.StockRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -31,12 +37,16 @@ public class DividendQueryService {
     private final StockRepository stockRepository;
 
     public List<MonthlyDividendResponse> getMonthlyDividends(final DividendRequest request) {
+        Map<String, Stock> stocks = getStocksByTicker(request.tickerShares());
+        Map<Integer, List<SingleMonthlyDividendResponse>> dividendsByMonth =
+                groupByMonth(request.tickerShares(), stocks, getLastYearDividendsByStockId(stocks.values()));
+
         return InstantProvider.generateNext12Months()
                 .stream()
                 .map(yearMonth -> MonthlyDividendResponse.of(
                                 yearMonth.getYear(),
                                 yearMonth.getMonthValue(),
-                                getDividendsOfLastYearAndMonth(request.tickerShares(), yearMonth.getMonthValue())
+                                dividendsByMonth.getOrDefault(yearMonth.getMonthValue(), Collections.emptyList())
                         )
                 )
                 .collect(Collectors.toList());
@@ -73,26 +83,55 @@ public class DividendQueryService {
                 .orElseThrow(() -> new TickerNotFoundException(ticker));
     }
 
-    private List<SingleMonthlyDividendResponse> getDividendsOfLastYearAndMonth(
-            final List<TickerShare> tickerShares, final int month
-    ) {
-        return tickerShares
-                .stream()
-                .flatMap(tickerShare -> stockRepository.findByTicker(tickerShare.ticker())
-                        .map(stock -> getMonthlyDividendResponse(month, tickerShare, stock))
-                        .orElseThrow(() -> new TickerNotFoundException(tickerShare.ticker())))
+    private Map<String, Stock> getStocksByTicker(final List<TickerShare> tickerShares) {
+        List<String> tickers = tickerShares.stream()
+                .map(TickerShare::ticker)
+                .distinct()
                 .toList();
+
+        Map<String, Stock> stocks = stockRepository.findAllByTickerIn(tickers)
+                .stream()
+                .collect(Collectors.toMap(Stock::getTicker, Function.identity()));
+
+        tickers.stream()
+                .filter(ticker -> !stocks.containsKey(ticker))
+                .findFirst()
+                .ifPresent(ticker -> {
+                    throw new TickerNotFoundException(ticker);
+                });
+
+        return stocks;
     }
 
-    private Stream<SingleMonthlyDividendResponse> getMonthlyDividendResponse(
-            final int month, final TickerShare tickerShare, final Stock stock
-    ) {
-        return getLastYearDividendsByTickerAndMonth(tickerShare.ticker(), month)
+    private Map<UUID, List<Dividend>> getLastYearDividendsByStockId(final Collection<Stock> stocks) {
+        List<UUID> stockIds = stocks.stream()
+                .map(Stock::getId)
+                .toList();
+
+        return dividendRepository.findAllByIdsAndYear(stockIds, InstantProvider.getLastYear())
                 .stream()
-                .map(dividend -> SingleMonthlyDividendResponse.of(stock, tickerShare.share(), dividend));
+                .collect(Collectors.groupingBy(Dividend::getStockId));
     }
 
-    private List<Dividend> getLastYearDividendsByTickerAndMonth(final String ticker, final int month) {
-        return dividendRepository.findAllByTickerAndYearAndMonth(ticker, InstantProvider.getLastYear(), month);
+    /**
+     * 요청한 종목 순서를 유지하며 작년 배당금을 배당락일의 월 기준으로 분류합니다.
+     */
+    private Map<Integer, List<SingleMonthlyDividendResponse>> groupByMonth(
+            final List<TickerShare> tickerShares,
+            final Map<String, Stock> stocks,
+            final Map<UUID, List<Dividend>> dividendsByStockId
+    ) {
+        Map<Integer, List<SingleMonthlyDividendResponse>> dividendsByMonth = new HashMap<>();
+
+        for (TickerShare tickerShare : tickerShares) {
+            Stock stock = stocks.get(tickerShare.ticker());
+            for (Dividend dividend : dividendsByStockId.getOrDefault(stock.getId(), Collections.emptyList())) {
+                dividendsByMonth
+                        .computeIfAbsent(InstantProvider.getMonth(dividend.getExDividendDate()), month -> new ArrayList<>())
+                        .add(SingleMonthlyDividendResponse.of(stock, tickerShare.share(), dividend));
+            }
+        }
+
+        return dividendsByMonth;
     }
 }
@@ -1,9 +1,12 @@
 package nexters.payout.apiserver.dividend.application;
 
 import lombok.RequiredArgsConstructor;
+import nexters.payout.apiserver.dividend.application.cache.DividendTimeline;
+import nexters.payout.apiserver.dividend.application.cache.DividendTimelineCache;
 import nexters.payout.apiserver.stock.application.StockDividendQueryService;
 import nexters.payout.apiserver.stock.application.dto.response.DividendResponse;
 import nexters.payout.apiserver.stock.application.dto.response.StockDetailResponse;
+import nexters.payout.apiserver.stock.application.dto.response.StockDetailsResponse;
 import nexters.payout.core.time.InstantProvider;
 import nexters.payout.domain.dividend.domain.Dividend;
 import nexters.payout.domain.dividend.domain.repository.DividendRepository;
@@ -15,7 +18,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -27,12 +35,41 @@ public class StockDividendQueryServiceImpl implements StockDividendQueryService
     private final StockDividendAnalysisService dividendAnalysisService;
     private final StockRepository stockRepository;
     private final DividendRepository dividendRepository;
+    private final DividendTimelineCache dividendTimelineCache;
 
     public StockDetailResponse getStockByTicker(final String ticker) {
         Stock stock = getStock(ticker);
+        return toStockDetailResponse(stock, getDividendTimeline(stock));
+    }
+
+    /**
+     * 여러 종목을 한 번에 조회하며, 존재하지 않는 티커는 예외 대신 unknownTickers 로 반환합니다.
+     */
+    public StockDetailsResponse getStocksByTickers(final List<String> tickers) {
+        List<String> distinctTickers = tickers.stream().distinct().toList();
+        Map<String, Stock> stockByTicker = stockRepository.findAllByTickerIn(distinctTickers)
+                .stream()
+                .collect(Collectors.toMap(Stock::getTicker, Function.identity()));
+
+        Map<UUID, DividendTimeline> dividendTimelines = getDividendTimelines(stockByTicker.values());
+
+        List<StockDetailResponse> stocks = new ArrayList<>();
+        List<String> unknownTickers = new ArrayList<>();
+        for (String ticker : distinctTickers) {
+            Stock stock = stockByTicker.get(ticker);
+            if (stock == null) {
+                unknownTickers.add(ticker);
+                continue;
+            }
+            stocks.add(toStockDetailResponse(stock, dividendTimelines.get(stock.getId())));
+        }
+
+        return new StockDetailsResponse(stocks, unknownTickers);
+    }
 
-        List<Dividend> lastYearDividends = getLastYearDividends(stock);
-        List<Dividend> thisYearDividends = getThisYearDividends(stock);
+    private StockDetailResponse toStockDetailResponse(final Stock stock, final DividendTimeline dividendTimeline) {
+        List<Dividend> lastYearDividends = dividendTimeline.dividendsOf(InstantProvider.getLastYear());
+        List<Dividend> thisYearDividends = dividendTimeline.dividendsOf(InstantProvider.getThisYear());
 
         if (lastYearDividends.isEmpty() && thisYearDividends.isEmpty()) {
             return StockDetailResponse.of(stock, DividendResponse.noDividend());
@@ -66,21 +103,31 @@ public class StockDividendQueryServiceImpl implements StockDividendQueryService
                 .orElseThrow(() -> new TickerNotFoundException(ticker));
     }
 
-    private List<Dividend> getLastYearDividends(final Stock stock) {
-        int lastYear = InstantProvider.getLastYear();
-
-        return dividendRepository.findAllByStockId(stock.getId())
-                .stream()
-                .filter(dividend -> InstantProvider.toLocalDate(dividend.getExDividendDate()).getYear() == lastYear)
-                .collect(Collectors.toList());
+    private DividendTimeline getDividendTimeline(final Stock stock) {
+        return dividendTimelineCache.get(
+                stock.getId(),
+                stockId -> DividendTimeline.of(stockId, dividendRepository.findAllByStockId(stockId))
+        );
     }
 
-    private List<Dividend> getThisYearDividends(final Stock stock) {
-        int thisYear = InstantProvider.getThisYear();
+    /**
+     * 캐시에 없는 종목의 배당금은 한 번에 조회합니다.
+     * 단건 조회와 같은 캐시를 공유하므로 단건 조회와 마찬가지로 종목의 전체 배당금 이력을 담습니다.
+     */
+    private Map<UUID, DividendTimeline> getDividendTimelines(final Collection<Stock> stocks) {
+        List<UUID> stockIds = stocks.stream().map(Stock::getId).toList();
 
-        return dividendRepository.findAllByStockId(stock.getId())
-                .stream()
-                .filter(dividend -> InstantProvider.toLocalDate(dividend.getExDividendDate()).getYear() == thisYear)
-                .collect(Collectors.toList());
+        return dividendTimelineCache.getAll(stockIds, missingIds -> {
+            Map<UUID, List<Dividend>> dividendsByStockId = dividendRepository
+                    .findAllByStockIdIn(missingIds)
+                    .stream()
+                    .collect(Collectors.groupingBy(Dividend::getStockId));
+
+            return missingIds.stream()
+                    .collect(Collectors.toMap(
+                            Function.identity(),
+                            stockId -> DividendTimeline.of(stockId, dividendsByStockId.getOrDefault(stockId, List.of()))
+                    ));
+        });
     }
 }
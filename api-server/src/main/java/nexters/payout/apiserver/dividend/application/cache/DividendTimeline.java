@@ -0,0 +1,100 @@
+package nexters.payout.apiserver.dividend.application.cache;
+
+import nexters.payout.core.time.InstantProvider;
+import nexters.payout.domain.dividend.domain.Dividend;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 한 종목의 배당금 이력을 배당락일 오름차순으로 정렬해 배열 형태로 보관합니다.
+ */
+public final class DividendTimeline {
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private final UUID stockId;
+    private final UUID[] ids;
+    private final double[] dividends;
+    private final long[] exDividendDates;
+    private final long[] paymentDates;
+    private final long[] declarationDates;
+
+    private DividendTimeline(final UUID stockId, final int size) {
+        this.stockId = stockId;
+        this.ids = new UUID[size];
+        this.dividends = new double[size];
+        this.exDividendDates = new long[size];
+        this.paymentDates = new long[size];
+        this.declarationDates = new long[size];
+    }
+
+    public static DividendTimeline of(final UUID stockId, final List<Dividend> dividends) {
+        List<Dividend> sorted = dividends.stream()
+                .filter(dividend -> dividend.getExDividendDate() != null)
+                .sorted(Comparator.comparing(Dividend::getExDividendDate))
+                .toList();
+
+        DividendTimeline timeline = new DividendTimeline(stockId, sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            Dividend dividend = sorted.get(i);
+            timeline.ids[i] = dividend.getId();
+            timeline.dividends[i] = dividend.getDividend() == null ? Double.NaN : dividend.getDividend();
+            timeline.exDividendDates[i] = toEpochMicros(dividend.getExDividendDate());
+            timeline.paymentDates[i] = toEpochMicros(dividend.getPaymentDate());
+            timeline.declarationDates[i] = toEpochMicros(dividend.getDeclarationDate());
+        }
+        return timeline;
+    }
+
+    /**
+     * 배당락일이 해당 연도에 속하는 배당금을 배당락일 오름차순으로 반환합니다.
+     */
+    public List<Dividend> dividendsOf(final int year) {
+        int from = lowerBound(toEpochMicros(InstantProvider.getStartOfYear(year)));
+        int to = lowerBound(toEpochMicros(InstantProvider.getStartOfYear(year + 1)));
+
+        List<Dividend> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(toDividend(i));
+        }
+        return result;
+    }
+
+    private int lowerBound(final long epochMicros) {
+        int low = 0;
+        int high = exDividendDates.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (exDividendDates[mid] < epochMicros) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Dividend toDividend(final int index) {
+        return new Dividend(
+                ids[index],
+                stockId,
+                Double.isNaN(dividends[index]) ? null : dividends[index],
+                toInstant(exDividendDates[index]),
+                toInstant(paymentDates[index]),
+                toInstant(declarationDates[index])
+        );
+    }
+
+    private static long toEpochMicros(final Instant instant) {
+        return instant == null ? NO_DATE : ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant toInstant(final long epochMicros) {
+        return epochMicros == NO_DATE ? null : Instant.EPOCH.plus(epochMicros, ChronoUnit.MICROS);
+    }
+}
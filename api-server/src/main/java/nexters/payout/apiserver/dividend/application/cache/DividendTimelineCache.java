@@ -0,0 +1,66 @@
+package nexters.payout.apiserver.dividend.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import nexters.payout.apiserver.dataversion.application.DataVersionChangedEvent;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+@Slf4j
+public class DividendTimelineCache {
+
+    private final Cache<UUID, DividendTimeline> cache;
+
+    public DividendTimelineCache(final DividendTimelineCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    public DividendTimeline get(final UUID stockId, final Function<UUID, DividendTimeline> loader) {
+        return cache.get(stockId, loader);
+    }
+
+    /**
+     * 캐시에 없는 종목들은 한 번의 loader 호출로 함께 불러옵니다.
+     */
+    public Map<UUID, DividendTimeline> getAll(final Collection<UUID> stockIds,
+                                              final Function<Set<? extends UUID>, Map<UUID, DividendTimeline>> loader) {
+        return cache.getAll(stockIds, loader);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 배치 작업이 배당금 정보를 갱신하면 캐시된 배당금 이력을 모두 무효화합니다.
+     */
+    @EventListener
+    public void invalidate(final DataVersionChangedEvent event) {
+        if (event.type() == DataVersionType.DIVIDEND) {
+            reportStats();
+            cache.invalidateAll();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${schedules.cache-report.fixed-delay}")
+    public void reportStats() {
+        CacheStats stats = cache.stats();
+        log.info("dividend timeline cache: size={}, hit={}, miss={}, hitRate={}, eviction={}",
+                cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+    }
+}
@@ -0,0 +1,15 @@
+package nexters.payout.apiserver.dividend.application.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("cache.dividend-timeline")
+@RequiredArgsConstructor
+@Getter
+public class DividendTimelineCacheProperties {
+    final Duration ttl;
+    final Long maximumSize;
+}
@@ -2,12 +2,15 @@ package nexters.payout.apiserver.portfolio.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nexters.payout.apiserver.config.datasource.RecentWrites;
 import nexters.payout.apiserver.portfolio.application.dto.request.PortfolioRequest;
+import nexters.payout.apiserver.portfolio.application.dto.request.TickerShare;
 import nexters.payout.apiserver.portfolio.application.dto.response.*;
 import nexters.payout.apiserver.stock.application.dto.response.SectorRatioResponse;
 import nexters.payout.core.time.InstantProvider;
 import nexters.payout.domain.dividend.domain.Dividend;
 import nexters.payout.domain.dividend.domain.repository.DividendRepository;
+import nexters.payout.domain.portfolio.application.PortfolioCommandService;
 import nexters.payout.domain.portfolio.domain.Portfolio;
 import nexters.payout.domain.portfolio.domain.PortfolioStock;
 import nexters.payout.domain.portfolio.domain.exception.PortfolioNotFoundException;
@@ -20,14 +23,20 @@ import nexters.payout.domain.stock.domain.repository.StockRepository;
 import nexters.payout.domain.stock.domain.service.SectorAnalysisService;
 import nexters.payout.domain.stock.domain.service.SectorAnalysisService.SectorInfo;
 import nexters.payout.domain.stock.domain.service.SectorAnalysisService.StockShare;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -37,29 +46,47 @@ public class PortfolioQueryService {
 
     private final StockRepository stockRepository;
     private final PortfolioRepository portfolioRepository;
+    private final PortfolioCommandService portfolioCommandService;
     private final DividendRepository dividendRepository;
     private final SectorAnalysisService sectorAnalysisService;
+    private final RecentWrites recentWrites;
 
+    /**
+     * 같은 종목 구성의 포트폴리오가 이미 있으면 새로 만들지 않고 만료일만 연장해 재사용합니다.
+     * 동시에 같은 구성을 만들어 유니크 키 위반이 발생하면, 먼저 저장된 포트폴리오를 새 트랜잭션에서 다시 조회해 재사용합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PortfolioResponse createPortfolio(final PortfolioRequest request) {
+        Map<String, Stock> stocksByTicker = getStocksByTicker(request);
 
         List<PortfolioStock> portfolioStocks =
                 request.tickerShares()
                         .stream()
-                        .map(it -> new PortfolioStock(getStockByTicker(it.ticker()).getId(), it.share()))
+                        .map(it -> new PortfolioStock(stocksByTicker.get(it.ticker()).getId(), it.share()))
                         .toList();
 
-        return new PortfolioResponse(
-                portfolioRepository.save(new Portfolio(InstantProvider.getExpireAt(), portfolioStocks))
-                        .getId()
-        );
+        UUID id = saveOrExtend(portfolioStocks);
+
+        recentWrites.mark(id);
+        return new PortfolioResponse(id);
+    }
+
+    private UUID saveOrExtend(final List<PortfolioStock> portfolioStocks) {
+        try {
+            return portfolioCommandService.saveOrExtend(new Portfolio(InstantProvider.getExpireAt(), portfolioStocks));
+        } catch (DataIntegrityViolationException e) {
+            log.info("portfolio with the same composition was created concurrently, reusing it");
+            return portfolioCommandService.saveOrExtend(new Portfolio(InstantProvider.getExpireAt(), portfolioStocks));
+        }
     }
 
     @Transactional(readOnly = true)
     public List<SectorRatioResponse> analyzeSectorRatio(final UUID portfolioId) {
         List<PortfolioStock> portfolioStocks = getPortfolio(portfolioId).portfolioStocks();
+        Map<UUID, Stock> stocks = getStocksById(portfolioStocks);
         List<StockShare> stockShares = portfolioStocks
                 .stream()
-                .map(ps -> new StockShare(getStock(ps.getStockId()), ps.getShares()))
+                .map(ps -> new StockShare(stocks.get(ps.getStockId()), ps.getShares()))
                 .toList();
         Map<Sector, SectorInfo> sectorInfoMap = sectorAnalysisService.calculateSectorRatios(stockShares);
         return SectorRatioResponse.fromMap(sectorInfoMap);
@@ -67,83 +94,116 @@ public class PortfolioQueryService {
 
     @Transactional(readOnly = true)
     public List<MonthlyDividendResponse> getMonthlyDividends(final UUID id) {
+        List<PortfolioStock> portfolioStocks = getPortfolio(id).portfolioStocks();
+        Map<UUID, Stock> stocks = getStocksById(portfolioStocks);
+        Map<Integer, List<SingleMonthlyDividendResponse>> dividendsByMonth =
+                groupByMonth(portfolioStocks, stocks, getLastYearDividendsByStockId(stocks.keySet()));
+
         return InstantProvider.generateNext12Months()
                 .stream()
                 .map(yearMonth -> MonthlyDividendResponse.of(
                                 yearMonth.getYear(),
                                 yearMonth.getMonthValue(),
-                                getDividendsOfLastYearAndMonth(
-                                        getPortfolio(id).portfolioStocks(),
-                                        yearMonth.getMonthValue()
-                                )
+                                dividendsByMonth.getOrDefault(yearMonth.getMonthValue(), Collections.emptyList())
                         )
                 )
                 .collect(Collectors.toList());
     }
 
-    private Stock getStockByTicker(String ticker) {
-        return stockRepository.findByTicker(ticker)
-                .orElseThrow(() -> new TickerNotFoundException(ticker));
-    }
-
-    private Stock getStock(UUID stockId) {
-        return stockRepository.findById(stockId).orElseThrow(() -> new StockIdNotFoundException(stockId));
-    }
-
-    private Portfolio getPortfolio(UUID id) {
-        return portfolioRepository.findById(id)
-                .orElseThrow(() -> new PortfolioNotFoundException(id));
-    }
-
     @Transactional(readOnly = true)
     public YearlyDividendResponse getYearlyDividends(final UUID id) {
+        List<PortfolioStock> portfolioStocks = getPortfolio(id).portfolioStocks();
+        Map<UUID, Stock> stocks = getStocksById(portfolioStocks);
+        Map<UUID, List<Dividend>> dividendsByStockId = getLastYearDividendsByStockId(stocks.keySet());
 
-        List<SingleYearlyDividendResponse> dividends = getPortfolio(id)
-                .portfolioStocks()
+        List<SingleYearlyDividendResponse> dividends = portfolioStocks
                 .stream()
-                .map(portfolioStock -> {
-                    Stock stock = getStock(portfolioStock.getStockId());
-                    return SingleYearlyDividendResponse.of(
-                            stock, portfolioStock.getShares(), getYearlyDividend(stock.getId())
-                    );
-                })
+                .map(portfolioStock -> SingleYearlyDividendResponse.of(
+                        stocks.get(portfolioStock.getStockId()),
+                        portfolioStock.getShares(),
+                        sumDividends(dividendsByStockId.getOrDefault(portfolioStock.getStockId(), Collections.emptyList()))
+                ))
                 .filter(response -> response.totalDividend() != 0)
                 .toList();
 
         return YearlyDividendResponse.of(dividends);
     }
 
-    private double getYearlyDividend(final UUID stockId) {
-        return getLastYearDividendsByStockId(stockId)
+    private Map<String, Stock> getStocksByTicker(final PortfolioRequest request) {
+        List<String> tickers = request.tickerShares().stream()
+                .map(TickerShare::ticker)
+                .distinct()
+                .toList();
+
+        Map<String, Stock> stocksByTicker = stockRepository.findAllByTickerIn(tickers)
                 .stream()
-                .mapToDouble(Dividend::getDividend)
-                .sum();
+                .collect(Collectors.toMap(Stock::getTicker, Function.identity()));
+
+        tickers.stream()
+                .filter(ticker -> !stocksByTicker.containsKey(ticker))
+                .findFirst()
+                .ifPresent(ticker -> {
+                    throw new TickerNotFoundException(ticker);
+                });
+        return stocksByTicker;
     }
 
-    private List<Dividend> getLastYearDividendsByStockId(final UUID id) {
-        return dividendRepository.findAllByIdAndYear(id, InstantProvider.getLastYear());
+    private Portfolio getPortfolio(UUID id) {
+        return portfolioRepository.findWithStocksById(id)
+                .orElseThrow(() -> new PortfolioNotFoundException(id));
     }
 
-    private List<SingleMonthlyDividendResponse> getDividendsOfLastYearAndMonth(
-            final List<PortfolioStock> portfolioStocks, final int month
-    ) {
-        return portfolioStocks
-                .stream()
-                .flatMap(portfolioStock -> stockRepository.findById(portfolioStock.getStockId())
-                        .map(stock -> getMonthlyDividendResponse(month, portfolioStock, stock))
-                        .orElseThrow(() -> new StockIdNotFoundException(portfolioStock.getStockId())))
+    private Map<UUID, Stock> getStocksById(final List<PortfolioStock> portfolioStocks) {
+        List<UUID> stockIds = portfolioStocks.stream()
+                .map(PortfolioStock::getStockId)
+                .distinct()
                 .toList();
+
+        Map<UUID, Stock> stocks = stockRepository.findAllById(stockIds)
+                .stream()
+                .collect(Collectors.toMap(Stock::getId, Function.identity()));
+
+        stockIds.stream()
+                .filter(stockId -> !stocks.containsKey(stockId))
+                .findFirst()
+                .ifPresent(stockId -> {
+                    throw new StockIdNotFoundException(stockId);
+                });
+
+        return stocks;
     }
 
-    private Stream<SingleMonthlyDividendResponse> getMonthlyDividendResponse(
-            final int month, final PortfolioStock portfolioStock, final Stock stock
-    ) {
-        return getLastYearDividendsByStockIdAndMonth(portfolioStock.getStockId(), month)
+    private Map<UUID, List<Dividend>> getLastYearDividendsByStockId(final Collection<UUID> stockIds) {
+        return dividendRepository.findAllByIdsAndYear(List.copyOf(stockIds), InstantProvider.getLastYear())
                 .stream()
-                .map(dividend -> SingleMonthlyDividendResponse.of(stock, portfolioStock.getShares(), dividend));
+                .collect(Collectors.groupingBy(Dividend::getStockId));
     }
 
-    private List<Dividend> getLastYearDividendsByStockIdAndMonth(final UUID stockId, final int month) {
-        return dividendRepository.findAllByIdAndYearAndMonth(stockId, InstantProvider.getLastYear(), month);
+    private double sumDividends(final List<Dividend> dividends) {
+        return dividends.stream()
+                .mapToDouble(Dividend::getDividend)
+                .sum();
+    }
+
+    /**
+     * 보유 종목 순서를 유지하며 작년 배당금을 배당락일의 월 기준으로 분류합니다.
+     */
+    private Map<Integer, List<SingleMonthlyDividendResponse>> groupByMonth(
+            final List<PortfolioStock> portfolioStocks,
+            final Map<UUID, Stock> stocks,
+            final Map<UUID, List<Dividend>> dividendsByStockId
+    ) {
+        Map<Integer, List<SingleMonthlyDividendResponse>> dividendsByMonth = new HashMap<>();
+
+        for (PortfolioStock portfolioStock : portfolioStocks) {
+            Stock stock = stocks.get(portfolioStock.getStockId());
+            for (Dividend dividend : dividendsByStockId.getOrDefault(stock.getId(), Collections.emptyList())) {
+                dividendsByMonth
+                        .computeIfAbsent(InstantProvider.getMonth(dividend.getExDividendDate()), month -> new ArrayList<>())
+                        .add(SingleMonthlyDividendResponse.of(stock, portfolioStock.getShares(), dividend));
+            }
+        }
+
+        return dividendsByMonth;
     }
 }
@@ -3,6 +3,7 @@ package nexters.payout.apiserver.portfolio.application.dto.request;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Size;
+import nexters.payout.apiserver.config.metrics.PayloadSized;
 
 import java.util.List;
 
@@ -11,5 +12,10 @@ public record PortfolioRequest(
         @Valid
         @Size(min = 1)
         List<TickerShare> tickerShares
-) {
+) implements PayloadSized {
+
+    @Override
+    public int payloadSize() {
+        return tickerShares == null ? 0 : tickerShares.size();
+    }
 }
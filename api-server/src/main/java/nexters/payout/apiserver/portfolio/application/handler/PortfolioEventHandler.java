@@ -1,22 +1,48 @@
 package nexters.payout.apiserver.portfolio.application.handler;
 
-import jakarta.transaction.Transactional;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
-import nexters.payout.domain.portfolio.domain.Portfolio;
-import nexters.payout.domain.portfolio.domain.exception.PortfolioNotFoundException;
+import lombok.extern.slf4j.Slf4j;
 import nexters.payout.domain.portfolio.domain.repository.PortfolioRepository;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
-@Transactional
 public class PortfolioEventHandler {
 
     private final PortfolioRepository portfolioRepository;
+    private final PortfolioHitCounter portfolioHitCounter;
+    private final ReentrantLock lock = new ReentrantLock();
 
     void handleReadPortfolioEvent(final ReadPortfolioEvent event) {
-        Portfolio portfolio = portfolioRepository.findById(event.portfolioId())
-                .orElseThrow(() -> new PortfolioNotFoundException(event.portfolioId()));
-        portfolio.incrementHits();
+        portfolioHitCounter.increment(event.portfolioId());
+    }
+
+    /**
+     * 메모리에 누적된 조회수를 주기적으로, 그리고 애플리케이션 종료 시 데이터베이스에 반영합니다.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${schedules.portfolio-hits.fixed-delay}")
+    public void flushHits() {
+        lock.lock();
+        Map<UUID, Long> hits = Map.of();
+        try {
+            hits = portfolioHitCounter.drain();
+            if (!hits.isEmpty()) {
+                portfolioRepository.incrementHits(hits);
+                log.info("flush portfolio hits: portfolios={}", hits.size());
+            }
+        } catch (Exception e) {
+            portfolioHitCounter.add(hits);
+            log.error("fail to flush portfolio hits: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
     }
 }
@@ -0,0 +1,42 @@
+package nexters.payout.apiserver.portfolio.application.handler;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포트폴리오 조회수를 데이터베이스에 반영하기 전까지 메모리에 누적합니다.
+ * 조회수가 몰리는 포트폴리오도 한 항목에서 경합하지 않도록 LongAdder로 누적합니다.
+ * 꺼내는 도중 제거한 LongAdder에 조회수가 더해져 유실되지 않도록, 한 번 조회된 포트폴리오의 항목은 제거하지 않습니다.
+ */
+@Component
+public class PortfolioHitCounter {
+
+    private final Map<UUID, LongAdder> counts = new ConcurrentHashMap<>();
+
+    public void increment(final UUID portfolioId) {
+        counts.computeIfAbsent(portfolioId, id -> new LongAdder()).increment();
+    }
+
+    public void add(final Map<UUID, Long> hits) {
+        hits.forEach((portfolioId, count) -> counts.computeIfAbsent(portfolioId, id -> new LongAdder()).add(count));
+    }
+
+    /**
+     * 누적된 조회수를 꺼내고 0으로 초기화합니다. 꺼내는 도중에 더해진 조회수는 다음 번에 반영됩니다.
+     */
+    public Map<UUID, Long> drain() {
+        Map<UUID, Long> drained = new HashMap<>();
+        counts.forEach((portfolioId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                drained.put(portfolioId, count);
+            }
+        });
+        return drained;
+    }
+}
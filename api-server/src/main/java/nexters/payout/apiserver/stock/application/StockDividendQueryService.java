@@ -1,7 +1,12 @@
 package nexters.payout.apiserver.stock.application;
 
 import nexters.payout.apiserver.stock.application.dto.response.StockDetailResponse;
+import nexters.payout.apiserver.stock.application.dto.response.StockDetailsResponse;
+
+import java.util.List;
 
 public interface StockDividendQueryService {
     StockDetailResponse getStockByTicker(final String ticker);
+
+    StockDetailsResponse getStocksByTickers(final List<String> tickers);
 }
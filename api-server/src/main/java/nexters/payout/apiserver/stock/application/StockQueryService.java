@@ -2,20 +2,30 @@ package nexters.payout.apiserver.stock.application;
 
 import lombok.RequiredArgsConstructor;
 import nexters.payout.apiserver.stock.application.dto.request.SectorRatioRequest;
+import nexters.payout.apiserver.stock.application.dto.request.StockDetailsRequest;
 import nexters.payout.apiserver.stock.application.dto.request.TickerShare;
+import nexters.payout.apiserver.stock.application.cursor.DividendYieldCursor;
+import nexters.payout.apiserver.stock.application.cursor.StockSearchCursor;
+import nexters.payout.apiserver.stock.application.cursor.UpcomingDividendCursor;
 import nexters.payout.apiserver.stock.application.dto.response.*;
+import nexters.payout.apiserver.stock.application.search.StockSearchIndexHolder;
+import nexters.payout.core.exception.error.BadRequestException;
 import nexters.payout.core.time.InstantProvider;
 import nexters.payout.domain.stock.domain.Sector;
 import nexters.payout.domain.stock.domain.Stock;
+import nexters.payout.domain.stock.domain.repository.DividendYieldRankRepository;
 import nexters.payout.domain.stock.domain.repository.StockRepository;
 import nexters.payout.domain.stock.domain.service.SectorAnalysisService;
 import nexters.payout.domain.stock.domain.service.SectorAnalysisService.SectorInfo;
 import nexters.payout.domain.stock.domain.service.SectorAnalysisService.StockShare;
+import nexters.payout.domain.stock.infra.dto.StockDividendDto;
+import nexters.payout.domain.stock.infra.dto.StockDividendYieldDto;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,20 +34,42 @@ import java.util.stream.Collectors;
 public class StockQueryService {
 
     private final StockRepository stockRepository;
+    private final DividendYieldRankRepository dividendYieldRankRepository;
     private final SectorAnalysisService sectorAnalysisService;
     private final StockDividendQueryService stockDividendQueryService;
+    private final StockSearchIndexHolder stockSearchIndexHolder;
 
     public List<StockResponse> searchStock(final String keyword, final Integer pageNumber, final Integer pageSize) {
-        return stockRepository.findStocksByTickerOrNameWithPriority(keyword, pageNumber, pageSize)
-                .stream()
-                .map(StockResponse::from)
-                .collect(Collectors.toList());
+        return searchStock(keyword, pageNumber, null, pageSize).content();
+    }
+
+    /**
+     * 커서가 주어지면 직전 페이지의 마지막 종목 이후부터, 그렇지 않으면 페이지 번호로 조회합니다.
+     */
+    public CursorPage<List<StockResponse>> searchStock(final String keyword, final Integer pageNumber, final String cursor, final Integer pageSize) {
+        validatePageRequest(pageNumber, cursor);
+
+        List<Stock> stocks = cursor == null
+                ? stockSearchIndexHolder.search(keyword, pageNumber, pageSize)
+                .orElseGet(() -> stockRepository.findStocksByTickerOrNameWithPriority(keyword, pageNumber, pageSize))
+                : searchStockAfter(keyword, StockSearchCursor.decode(cursor, keyword), pageSize);
+
+        return toCursorPage(
+                stocks,
+                pageSize,
+                rows -> rows.stream().map(StockResponse::from).collect(Collectors.toList()),
+                last -> StockSearchCursor.of(keyword, last).encode()
+        );
     }
 
     public StockDetailResponse getStockByTicker(final String ticker) {
         return stockDividendQueryService.getStockByTicker(ticker);
     }
 
+    public StockDetailsResponse getStocksByTickers(final StockDetailsRequest request) {
+        return stockDividendQueryService.getStocksByTickers(request.tickers());
+    }
+
     public List<SectorRatioResponse> analyzeSectorRatio(final SectorRatioRequest request) {
         List<StockShare> stockShares = getStockShares(request);
 
@@ -47,29 +79,107 @@ public class StockQueryService {
     }
 
     public UpcomingDividendResponse getUpcomingDividendStocks(final Sector sector, final int pageNumber, final int pageSize) {
-        return UpcomingDividendResponse.of(
-                stockRepository.findUpcomingDividendStock(sector, pageNumber, pageSize)
-                        .stream()
-                        .map(stockDividend -> SingleUpcomingDividendResponse.of(
-                                stockDividend.stock(),
-                                stockDividend.dividend())
-                        )
-                        .collect(Collectors.toList())
+        return getUpcomingDividendStocks(sector, pageNumber, null, pageSize).content();
+    }
+
+    public CursorPage<UpcomingDividendResponse> getUpcomingDividendStocks(final Sector sector, final Integer pageNumber, final String cursor, final int pageSize) {
+        validatePageRequest(pageNumber, cursor);
+
+        List<StockDividendDto> stockDividends = cursor == null
+                ? stockRepository.findUpcomingDividendStock(sector, pageNumber, pageSize)
+                : findUpcomingDividendStockAfter(sector, UpcomingDividendCursor.decode(cursor, sector), pageSize);
+
+        return toCursorPage(
+                stockDividends,
+                pageSize,
+                rows -> UpcomingDividendResponse.of(
+                        rows.stream()
+                                .map(stockDividend -> SingleUpcomingDividendResponse.of(
+                                        stockDividend.stock(),
+                                        stockDividend.dividend())
+                                )
+                                .collect(Collectors.toList())
+                ),
+                last -> UpcomingDividendCursor.of(sector, last.dividend()).encode()
         );
     }
 
     public StockDividendYieldResponse getBiggestDividendStocks(final Sector sector, final int pageNumber, final int pageSize) {
-        return StockDividendYieldResponse.of(
-                stockRepository.findBiggestDividendYieldStock(InstantProvider.getLastYear(), sector, pageNumber, pageSize)
-                        .stream()
-                        .map(stockDividendYield -> SingleStockDividendYieldResponse.of(
-                                stockDividendYield.stock(),
-                                stockDividendYield.dividendYield())
-                        )
-                        .collect(Collectors.toList())
+        return getBiggestDividendStocks(sector, pageNumber, null, pageSize).content();
+    }
+
+    public CursorPage<StockDividendYieldResponse> getBiggestDividendStocks(final Sector sector, final Integer pageNumber, final String cursor, final int pageSize) {
+        validatePageRequest(pageNumber, cursor);
+
+        int lastYear = InstantProvider.getLastYear();
+        List<StockDividendYieldDto> stockDividendYields = cursor == null
+                ? findBiggestDividendYieldStock(lastYear, sector, pageNumber, pageSize)
+                : findBiggestDividendYieldStockAfter(lastYear, sector, DividendYieldCursor.decode(cursor, sector), pageSize);
+
+        return toCursorPage(
+                stockDividendYields,
+                pageSize,
+                rows -> StockDividendYieldResponse.of(
+                        rows.stream()
+                                .map(stockDividendYield -> SingleStockDividendYieldResponse.of(
+                                        stockDividendYield.stock(),
+                                        stockDividendYield.dividendYield())
+                                )
+                                .collect(Collectors.toList())
+                ),
+                last -> DividendYieldCursor.of(sector, last).encode()
         );
     }
 
+    private List<Stock> searchStockAfter(final String keyword, final StockSearchCursor cursor, final int pageSize) {
+        return stockSearchIndexHolder.searchAfter(keyword, cursor.priority(), cursor.ticker(), pageSize)
+                .orElseGet(() -> stockRepository.findStocksByTickerOrNameWithPriorityAfter(keyword, cursor.priority(), cursor.ticker(), pageSize));
+    }
+
+    private List<StockDividendDto> findUpcomingDividendStockAfter(final Sector sector, final UpcomingDividendCursor cursor, final int pageSize) {
+        return stockRepository.findUpcomingDividendStockAfter(sector, cursor.exDividendDate(), cursor.dividendId(), pageSize);
+    }
+
+    /**
+     * 배치 작업이 미리 계산한 순위를 우선 사용하고, 해당 연도의 순위가 아직 없다면 직접 계산합니다.
+     */
+    private List<StockDividendYieldDto> findBiggestDividendYieldStock(final int lastYear, final Sector sector, final int pageNumber, final int pageSize) {
+        List<StockDividendYieldDto> ranked = dividendYieldRankRepository.findRankedDividendYieldStock(lastYear, sector, pageNumber, pageSize);
+        if (!ranked.isEmpty() || dividendYieldRankRepository.existsByDividendYear(lastYear)) {
+            return ranked;
+        }
+        return stockRepository.findBiggestDividendYieldStock(lastYear, sector, pageNumber, pageSize);
+    }
+
+    /**
+     * 커서가 순위를 담고 있다면 미리 계산된 순위에서, 그렇지 않다면 배당수익률과 티커 기준으로 직접 계산합니다.
+     */
+    private List<StockDividendYieldDto> findBiggestDividendYieldStockAfter(final int lastYear, final Sector sector, final DividendYieldCursor cursor, final int pageSize) {
+        if (cursor.ranking() != null) {
+            List<StockDividendYieldDto> ranked = dividendYieldRankRepository.findRankedDividendYieldStockAfter(lastYear, sector, cursor.ranking(), pageSize);
+            if (!ranked.isEmpty() || dividendYieldRankRepository.existsByDividendYear(lastYear)) {
+                return ranked;
+            }
+        }
+        return stockRepository.findBiggestDividendYieldStockAfter(lastYear, sector, cursor.dividendYield(), cursor.ticker(), pageSize);
+    }
+
+    private void validatePageRequest(final Integer pageNumber, final String cursor) {
+        if (pageNumber == null && cursor == null) {
+            throw new BadRequestException("pageNumber or cursor is required");
+        }
+    }
+
+    /**
+     * 조회한 행이 페이지 크기만큼 채워졌을 때만 마지막 행으로 다음 커서를 만듭니다.
+     */
+    private <T, R> CursorPage<R> toCursorPage(final List<T> rows, final int pageSize,
+                                              final Function<List<T>, R> contentMapper,
+                                              final Function<T, String> cursorMapper) {
+        String nextCursor = !rows.isEmpty() && rows.size() >= pageSize ? cursorMapper.apply(rows.get(rows.size() - 1)) : null;
+        return new CursorPage<>(contentMapper.apply(rows), nextCursor);
+    }
+
     private List<StockShare> getStockShares(final SectorRatioRequest request) {
         List<Stock> stocks = stockRepository.findAllByTickerIn(getTickers(request));
 
@@ -0,0 +1,87 @@
+package nexters.payout.apiserver.stock.application.cache;
+
+import nexters.payout.domain.stock.domain.repository.StockRepository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+
+/**
+ * StockRepository의 티커, ID 단건/다건 조회를 StockCache로 처리하고 나머지 메서드는 그대로 위임합니다.
+ * WRITE_METHODS에 등록된 메서드로 종목을 저장, 수정, 삭제하면 캐시를 모두 무효화합니다.
+ * StockRepository에 쓰기 메서드를 추가하면 WRITE_METHODS에도 추가해야 합니다.
+ */
+public class CachingStockRepository implements InvocationHandler {
+
+    static final Set<String> WRITE_METHODS = Set.of(
+            "save", "saveAll", "saveAndFlush", "saveAllAndFlush",
+            "delete", "deleteById", "deleteAll", "deleteAllById",
+            "deleteInBatch", "deleteAllInBatch", "deleteAllByIdInBatch",
+            "upsertAll", "updateLogoUrls"
+    );
+
+    private final StockRepository delegate;
+    private final StockCache stockCache;
+
+    private CachingStockRepository(final StockRepository delegate, final StockCache stockCache) {
+        this.delegate = delegate;
+        this.stockCache = stockCache;
+    }
+
+    public static StockRepository wrap(final StockRepository delegate, final StockCache stockCache) {
+        return (StockRepository) Proxy.newProxyInstance(
+                StockRepository.class.getClassLoader(),
+                new Class<?>[]{StockRepository.class},
+                new CachingStockRepository(delegate, stockCache)
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        String name = method.getName();
+        int parameterCount = method.getParameterCount();
+
+        if (name.equals("findByTicker") && parameterCount == 1) {
+            return stockCache.findByTicker((String) args[0], delegate::findByTicker);
+        }
+        if (name.equals("findAllByTickerIn") && parameterCount == 1) {
+            return stockCache.findAllByTickerIn((List<String>) args[0], delegate::findAllByTickerIn);
+        }
+        if (name.equals("findById") && parameterCount == 1) {
+            return stockCache.findById((UUID) args[0], delegate::findById);
+        }
+        if (name.equals("findAllById") && parameterCount == 1) {
+            List<UUID> ids = StreamSupport.stream(((Iterable<UUID>) args[0]).spliterator(), false).toList();
+            return stockCache.findAllById(ids, delegate::findAllById);
+        }
+        if (name.equals("toString") && parameterCount == 0) {
+            return "CachingStockRepository(" + delegate + ")";
+        }
+        if (name.equals("equals") && parameterCount == 1) {
+            return proxy == args[0];
+        }
+        if (name.equals("hashCode") && parameterCount == 0) {
+            return System.identityHashCode(proxy);
+        }
+
+        Object result = invokeDelegate(method, args);
+        if (WRITE_METHODS.contains(name)) {
+            stockCache.invalidateAll();
+        }
+        return result;
+    }
+
+    private Object invokeDelegate(final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package nexters.payout.apiserver.stock.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import nexters.payout.apiserver.dataversion.application.DataVersionChangedEvent;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import nexters.payout.domain.stock.domain.Stock;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 티커와 ID로 조회한 종목을 보관합니다. 존재하지 않는 티커도 함께 보관해 같은 티커로 반복 조회하지 않습니다.
+ * 티커는 MySQL 콜레이션처럼 대소문자를 구분하지 않도록 대문자로 정규화한 값을 키로 사용합니다.
+ * 종목은 불변 스냅샷으로 보관하고 조회할 때마다 새 Stock을 만들어 반환하므로, 호출자끼리 엔티티를 공유하지 않습니다.
+ * 종목은 배치 작업에서만 변경되므로 STOCK 데이터 버전이 바뀌면 전체를 무효화합니다.
+ */
+@Component
+@Slf4j
+public class StockCache {
+
+    private final Cache<String, Optional<StockSnapshot>> byTicker;
+    private final Cache<UUID, Optional<StockSnapshot>> byId;
+
+    public StockCache(final StockCacheProperties properties) {
+        this.byTicker = newCache(properties);
+        this.byId = newCache(properties);
+    }
+
+    private static <K> Cache<K, Optional<StockSnapshot>> newCache(final StockCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Stock> findByTicker(final String ticker, final Function<String, Optional<Stock>> loader) {
+        return byTicker.get(normalize(ticker), key -> {
+            Optional<StockSnapshot> stock = loader.apply(key).map(StockSnapshot::from);
+            stock.ifPresent(it -> byId.put(it.id(), stock));
+            return stock;
+        }).map(StockSnapshot::toStock);
+    }
+
+    /**
+     * 캐시에 없는 티커만 한 번의 loader 호출로 불러오며, 찾은 종목을 요청한 티커 순서대로 반환합니다.
+     */
+    public List<Stock> findAllByTickerIn(final Collection<String> tickers, final Function<List<String>, List<Stock>> loader) {
+        List<String> keys = tickers.stream()
+                .map(StockCache::normalize)
+                .distinct()
+                .toList();
+        Map<String, Optional<StockSnapshot>> stocks = byTicker.getAll(keys, missing -> {
+            Map<String, StockSnapshot> loaded = loader.apply(new ArrayList<>(missing))
+                    .stream()
+                    .map(StockSnapshot::from)
+                    .collect(Collectors.toMap(stock -> normalize(stock.ticker()), Function.identity(), (first, second) -> first));
+
+            Map<String, Optional<StockSnapshot>> result = new HashMap<>();
+            for (String ticker : missing) {
+                Optional<StockSnapshot> stock = Optional.ofNullable(loaded.get(ticker));
+                stock.ifPresent(it -> byId.put(it.id(), stock));
+                result.put(ticker, stock);
+            }
+            return result;
+        });
+        return distinctPresent(stocks.values());
+    }
+
+    public Optional<Stock> findById(final UUID id, final Function<UUID, Optional<Stock>> loader) {
+        return byId.get(id, key -> loader.apply(key).map(StockSnapshot::from))
+                .map(StockSnapshot::toStock);
+    }
+
+    public List<Stock> findAllById(final Collection<UUID> ids, final Function<List<UUID>, List<Stock>> loader) {
+        Map<UUID, Optional<StockSnapshot>> stocks = byId.getAll(ids, missing -> {
+            Map<UUID, StockSnapshot> loaded = loader.apply(new ArrayList<>(missing))
+                    .stream()
+                    .map(StockSnapshot::from)
+                    .collect(Collectors.toMap(StockSnapshot::id, Function.identity()));
+
+            Map<UUID, Optional<StockSnapshot>> result = new HashMap<>();
+            for (UUID id : missing) {
+                result.put(id, Optional.ofNullable(loaded.get(id)));
+            }
+            return result;
+        });
+        return distinctPresent(stocks.values());
+    }
+
+    public void invalidateAll() {
+        byTicker.invalidateAll();
+        byId.invalidateAll();
+    }
+
+    /**
+     * 배치 작업이 종목 정보를 갱신하면 캐시된 종목을 모두 무효화합니다.
+     */
+    @EventListener
+    public void invalidate(final DataVersionChangedEvent event) {
+        if (event.type() == DataVersionType.STOCK) {
+            reportStats();
+            invalidateAll();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${schedules.cache-report.fixed-delay}")
+    public void reportStats() {
+        log.info("stock cache: byTicker(size={}, hitRate={}, eviction={}), byId(size={}, hitRate={}, eviction={})",
+                byTicker.estimatedSize(), byTicker.stats().hitRate(), byTicker.stats().evictionCount(),
+                byId.estimatedSize(), byId.stats().hitRate(), byId.stats().evictionCount());
+    }
+
+    private static List<Stock> distinctPresent(final Collection<Optional<StockSnapshot>> stocks) {
+        return stocks.stream()
+                .flatMap(Optional::stream)
+                .distinct()
+                .map(StockSnapshot::toStock)
+                .toList();
+    }
+
+    private static String normalize(final String ticker) {
+        return ticker == null ? null : ticker.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,21 @@
+package nexters.payout.apiserver.stock.application.cache;
+
+import nexters.payout.domain.stock.domain.repository.StockRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class StockCacheConfig {
+
+    /**
+     * api-server에서 주입받는 StockRepository는 모두 캐시를 거칩니다.
+     */
+    @Bean
+    @Primary
+    public StockRepository cachingStockRepository(@Qualifier("stockRepository") final StockRepository stockRepository,
+                                                  final StockCache stockCache) {
+        return CachingStockRepository.wrap(stockRepository, stockCache);
+    }
+}
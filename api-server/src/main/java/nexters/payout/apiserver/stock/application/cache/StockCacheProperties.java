@@ -0,0 +1,15 @@
+package nexters.payout.apiserver.stock.application.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("cache.stock")
+@RequiredArgsConstructor
+@Getter
+public class StockCacheProperties {
+    final Duration ttl;
+    final Long maximumSize;
+}
@@ -0,0 +1,45 @@
+package nexters.payout.apiserver.stock.application.cache;
+
+import nexters.payout.domain.stock.domain.Sector;
+import nexters.payout.domain.stock.domain.Stock;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 캐시에 보관하는 종목의 불변 스냅샷입니다. 조회할 때마다 새 Stock으로 만들어 반환하므로 호출자가 값을 바꿔도 캐시는 바뀌지 않습니다.
+ */
+record StockSnapshot(
+        UUID id,
+        String ticker,
+        String name,
+        Sector sector,
+        String exchange,
+        String industry,
+        Double price,
+        Integer volume,
+        String logoUrl,
+        Instant createdAt,
+        Instant lastModifiedAt
+) {
+
+    static StockSnapshot from(final Stock stock) {
+        return new StockSnapshot(
+                stock.getId(),
+                stock.getTicker(),
+                stock.getName(),
+                stock.getSector(),
+                stock.getExchange(),
+                stock.getIndustry(),
+                stock.getPrice(),
+                stock.getVolume(),
+                stock.getLogoUrl(),
+                stock.getCreatedAt(),
+                stock.getLastModifiedAt()
+        );
+    }
+
+    Stock toStock() {
+        return new Stock(id, ticker, name, sector, exchange, industry, price, volume, logoUrl, createdAt, lastModifiedAt);
+    }
+}
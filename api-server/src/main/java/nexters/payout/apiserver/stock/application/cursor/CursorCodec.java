@@ -0,0 +1,54 @@
+package nexters.payout.apiserver.stock.application.cursor;
+
+import nexters.payout.core.exception.error.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 다음 페이지 조회에 필요한 값들을 클라이언트가 해석할 필요 없는 문자열로 변환합니다.
+ * 첫 번째 필드에는 커서를 만든 요청의 범위(검색어, 섹터)를 담아 다른 요청에 재사용되지 않도록 합니다.
+ */
+final class CursorCodec {
+
+    private static final String DELIMITER = ".";
+
+    private CursorCodec() {
+    }
+
+    static String encode(final String scope, final Object... fields) {
+        return Stream.concat(Stream.of(scope), Arrays.stream(fields))
+                .map(field -> field == null ? "" : field.toString())
+                .map(field -> Base64.getUrlEncoder().withoutPadding().encodeToString(field.getBytes(StandardCharsets.UTF_8)))
+                .collect(Collectors.joining(DELIMITER));
+    }
+
+    static <T> T decode(final String cursor, final String scope, final int size, final Function<String[], T> parser) {
+        String[] fields;
+        try {
+            fields = cursor.split("\\" + DELIMITER, -1);
+            if (fields.length != size + 1) {
+                throw new IllegalArgumentException();
+            }
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = new String(Base64.getUrlDecoder().decode(fields[i]), StandardCharsets.UTF_8);
+            }
+        } catch (RuntimeException e) {
+            throw new BadRequestException(String.format("invalid cursor: %s", cursor));
+        }
+
+        if (!fields[0].equals(scope)) {
+            throw new BadRequestException(String.format("cursor does not match request: %s", cursor));
+        }
+
+        try {
+            return parser.apply(Arrays.copyOfRange(fields, 1, fields.length));
+        } catch (RuntimeException e) {
+            throw new BadRequestException(String.format("invalid cursor: %s", cursor));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package nexters.payout.apiserver.stock.application.cursor;
+
+import nexters.payout.domain.stock.domain.Sector;
+import nexters.payout.domain.stock.infra.dto.StockDividendYieldDto;
+
+/**
+ * 배당수익률과 티커로 다음 페이지의 시작 위치를 나타내며, 미리 계산된 순위에서 조회했다면 순위도 함께 담습니다.
+ * 같은 섹터를 조회하는 요청에서만 사용할 수 있습니다.
+ */
+public record DividendYieldCursor(
+        Sector sector,
+        Double dividendYield,
+        String ticker,
+        Integer ranking
+) {
+    public static DividendYieldCursor of(final Sector sector, final StockDividendYieldDto stockDividendYield) {
+        return new DividendYieldCursor(
+                sector,
+                stockDividendYield.dividendYield(),
+                stockDividendYield.stock().getTicker(),
+                stockDividendYield.ranking()
+        );
+    }
+
+    public static DividendYieldCursor decode(final String cursor, final Sector sector) {
+        return CursorCodec.decode(cursor, sector.name(), 3, fields -> new DividendYieldCursor(
+                sector,
+                Double.valueOf(fields[0]),
+                fields[1],
+                fields[2].isEmpty() ? null : Integer.valueOf(fields[2])
+        ));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(sector.name(), dividendYield, ticker, ranking);
+    }
+}
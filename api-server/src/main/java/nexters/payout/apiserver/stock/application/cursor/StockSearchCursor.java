@@ -0,0 +1,40 @@
+package nexters.payout.apiserver.stock.application.cursor;
+
+import nexters.payout.domain.stock.domain.Stock;
+
+import java.util.Locale;
+
+/**
+ * 검색 결과의 우선순위(1: 티커 접두사 일치, 2: 회사명 포함)와 티커로 다음 페이지의 시작 위치를 나타냅니다.
+ * 대소문자를 구분하지 않는 검색어가 같은 요청에서만 사용할 수 있습니다.
+ */
+public record StockSearchCursor(
+        String keyword,
+        int priority,
+        String ticker
+) {
+    public StockSearchCursor {
+        if (priority != 1 && priority != 2) {
+            throw new IllegalArgumentException("invalid priority: " + priority);
+        }
+    }
+
+    public static StockSearchCursor of(final String keyword, final Stock stock) {
+        String ticker = stock.getTicker() == null ? "" : stock.getTicker();
+        boolean tickerStartsWith = normalize(ticker).startsWith(normalize(keyword));
+        return new StockSearchCursor(keyword, tickerStartsWith ? 1 : 2, ticker);
+    }
+
+    public static StockSearchCursor decode(final String cursor, final String keyword) {
+        return CursorCodec.decode(cursor, normalize(keyword), 2,
+                fields -> new StockSearchCursor(keyword, Integer.parseInt(fields[0]), fields[1]));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(normalize(keyword), priority, ticker);
+    }
+
+    private static String normalize(final String value) {
+        return value.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,29 @@
+package nexters.payout.apiserver.stock.application.cursor;
+
+import nexters.payout.domain.dividend.domain.Dividend;
+import nexters.payout.domain.stock.domain.Sector;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 배당락일과 배당금 ID로 다음 페이지의 시작 위치를 나타내며, 같은 섹터를 조회하는 요청에서만 사용할 수 있습니다.
+ */
+public record UpcomingDividendCursor(
+        Sector sector,
+        Instant exDividendDate,
+        UUID dividendId
+) {
+    public static UpcomingDividendCursor of(final Sector sector, final Dividend dividend) {
+        return new UpcomingDividendCursor(sector, dividend.getExDividendDate(), dividend.getId());
+    }
+
+    public static UpcomingDividendCursor decode(final String cursor, final Sector sector) {
+        return CursorCodec.decode(cursor, sector.name(), 2,
+                fields -> new UpcomingDividendCursor(sector, Instant.parse(fields[0]), UUID.fromString(fields[1])));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(sector.name(), exDividendDate, dividendId);
+    }
+}
@@ -0,0 +1,22 @@
+package nexters.payout.apiserver.stock.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import nexters.payout.apiserver.config.metrics.PayloadSized;
+
+import java.util.List;
+
+public record StockDetailsRequest(
+        @Schema(requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull
+        @Size(min = 1, max = 100)
+        List<@NotEmpty String> tickers
+) implements PayloadSized {
+
+    @Override
+    public int payloadSize() {
+        return tickers == null ? 0 : tickers.size();
+    }
+}
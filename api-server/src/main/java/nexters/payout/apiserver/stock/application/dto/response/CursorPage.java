@@ -0,0 +1,10 @@
+package nexters.payout.apiserver.stock.application.dto.response;
+
+/**
+ * 조회 결과와 함께 다음 페이지를 조회할 수 있는 커서를 담으며, 마지막 페이지라면 커서는 null 입니다.
+ */
+public record CursorPage<T>(
+        T content,
+        String nextCursor
+) {
+}
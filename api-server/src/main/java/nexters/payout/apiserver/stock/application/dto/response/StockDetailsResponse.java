@@ -0,0 +1,13 @@
+package nexters.payout.apiserver.stock.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record StockDetailsResponse(
+        @Schema(requiredMode = Schema.RequiredMode.REQUIRED)
+        List<StockDetailResponse> stocks,
+        @Schema(requiredMode = Schema.RequiredMode.REQUIRED)
+        List<String> unknownTickers
+) {
+}
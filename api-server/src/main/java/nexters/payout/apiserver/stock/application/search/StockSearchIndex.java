@@ -0,0 +1,203 @@
+package nexters.payout.apiserver.stock.application.search;
+
+import nexters.payout.domain.stock.domain.Stock;
+
+import java.util.*;
+
+/**
+ * 티커 접두사 트라이와 회사명 n-gram 인덱스로 구성된 종목 검색 인덱스입니다.
+ * 검색 결과는 티커 접두사 일치, 회사명 포함 순으로 정렬되며, 같은 우선순위 내에서는 티커, 회사명 순으로 정렬됩니다.
+ */
+public final class StockSearchIndex {
+
+    private static final Comparator<Stock> ORDER = Comparator
+            .comparing((Stock stock) -> normalize(stock.getTicker()), Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Stock::getName, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+    private static final int[] EMPTY = new int[0];
+
+    private final Stock[] stocks;
+    private final String[] tickers;
+    private final String[] names;
+    private final TrieNode tickerTrie = new TrieNode();
+    private final Map<String, int[]> nameGrams;
+
+    private StockSearchIndex(final List<Stock> stocks) {
+        this.stocks = stocks.stream().sorted(ORDER).toArray(Stock[]::new);
+        this.tickers = new String[this.stocks.length];
+        this.names = new String[this.stocks.length];
+
+        Map<String, List<Integer>> grams = new HashMap<>();
+        for (int position = 0; position < this.stocks.length; position++) {
+            tickers[position] = normalize(this.stocks[position].getTicker());
+            if (tickers[position] != null) {
+                tickerTrie.insert(tickers[position], position);
+            }
+
+            names[position] = normalize(this.stocks[position].getName());
+            if (names[position] != null) {
+                for (String gram : gramsOf(names[position])) {
+                    grams.computeIfAbsent(gram, key -> new ArrayList<>()).add(position);
+                }
+            }
+        }
+
+        this.nameGrams = new HashMap<>(grams.size() * 4 / 3 + 1);
+        grams.forEach((gram, positions) -> nameGrams.put(gram, positions.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    public static StockSearchIndex of(final List<Stock> stocks) {
+        return new StockSearchIndex(stocks);
+    }
+
+    public int size() {
+        return stocks.length;
+    }
+
+    public List<Stock> search(final String keyword, final int pageNumber, final int pageSize) {
+        String normalized = normalize(keyword);
+        if (normalized == null || normalized.isEmpty() || pageSize <= 0) {
+            return List.of();
+        }
+
+        long offset = (long) (pageNumber - 1) * pageSize;
+        if (offset < 0 || offset >= stocks.length) {
+            return List.of();
+        }
+
+        TrieNode node = tickerTrie.find(normalized);
+        int prefixCount = node == null ? 0 : node.to - node.from;
+
+        return collect(normalized, node, (int) offset, 0, Math.max((int) offset - prefixCount, 0), pageSize);
+    }
+
+    /**
+     * 직전 페이지의 마지막 종목 우선순위와 티커 이후의 검색 결과를 반환합니다.
+     */
+    public List<Stock> searchAfter(final String keyword, final int lastPriority, final String lastTicker, final int pageSize) {
+        String normalized = normalize(keyword);
+        if (normalized == null || normalized.isEmpty() || pageSize <= 0) {
+            return List.of();
+        }
+
+        TrieNode node = tickerTrie.find(normalized);
+        int after = upperBound(normalize(lastTicker));
+
+        if (lastPriority == 1) {
+            int prefixOffset = node == null ? 0 : Math.max(after - node.from, 0);
+            return collect(normalized, node, prefixOffset, 0, 0, pageSize);
+        }
+        return collect(normalized, node, Integer.MAX_VALUE, after, 0, pageSize);
+    }
+
+    /**
+     * 티커 접두사가 일치하는 구간에서 prefixOffset 이후의 종목을 먼저 담고,
+     * 이어서 nameFrom 이후 위치에서 회사명만 일치하는 종목을 nameSkip 개 건너뛴 뒤 담습니다.
+     */
+    private List<Stock> collect(final String keyword, final TrieNode node, final int prefixOffset,
+                                final int nameFrom, final int nameSkip, final int limit) {
+        int prefixFrom = node == null ? 0 : node.from;
+        int prefixTo = node == null ? 0 : node.to;
+        List<Stock> result = new ArrayList<>(limit);
+
+        for (int position = prefixFrom + Math.min(prefixOffset, prefixTo - prefixFrom); position < prefixTo && result.size() < limit; position++) {
+            result.add(stocks[position]);
+        }
+
+        int skip = nameSkip;
+        for (int position : nameCandidates(keyword)) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (position < nameFrom || (position >= prefixFrom && position < prefixTo)) {
+                continue;
+            }
+            if (!names[position].contains(keyword)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            result.add(stocks[position]);
+        }
+
+        return result;
+    }
+
+    /**
+     * 티커가 주어진 값보다 큰 첫 번째 위치를 반환합니다.
+     */
+    private int upperBound(final String ticker) {
+        int low = 0;
+        int high = tickers.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ticker == null ? tickers[mid] == null : tickers[mid] == null || tickers[mid].compareTo(ticker) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 검색어에 포함된 n-gram 중 가장 적은 종목을 가리키는 목록을 후보로 사용합니다.
+     */
+    private int[] nameCandidates(final String keyword) {
+        if (keyword.length() == 1) {
+            return nameGrams.getOrDefault(keyword, EMPTY);
+        }
+
+        int[] candidates = null;
+        for (int i = 0; i + 2 <= keyword.length(); i++) {
+            int[] positions = nameGrams.getOrDefault(keyword.substring(i, i + 2), EMPTY);
+            if (candidates == null || positions.length < candidates.length) {
+                candidates = positions;
+            }
+        }
+        return candidates;
+    }
+
+    private static Set<String> gramsOf(final String name) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < name.length(); i++) {
+            grams.add(name.substring(i, i + 1));
+            if (i + 2 <= name.length()) {
+                grams.add(name.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static String normalize(final String value) {
+        return value == null ? null : value.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 정렬된 종목 배열에서 해당 접두사를 가진 티커의 구간 [from, to)를 보관합니다.
+     */
+    private static final class TrieNode {
+
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private int from = Integer.MAX_VALUE;
+        private int to = 0;
+
+        private void insert(final String ticker, final int position) {
+            TrieNode node = this;
+            for (int i = 0; i < ticker.length(); i++) {
+                node = node.children.computeIfAbsent(ticker.charAt(i), key -> new TrieNode());
+                node.from = Math.min(node.from, position);
+                node.to = Math.max(node.to, position + 1);
+            }
+        }
+
+        private TrieNode find(final String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node;
+        }
+    }
+}
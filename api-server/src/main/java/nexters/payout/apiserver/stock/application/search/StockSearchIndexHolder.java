@@ -0,0 +1,76 @@
+package nexters.payout.apiserver.stock.application.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nexters.payout.apiserver.dataversion.application.DataVersionChangedEvent;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import nexters.payout.domain.stock.domain.Stock;
+import nexters.payout.domain.stock.domain.repository.StockRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StockSearchIndexHolder {
+
+    private final StockRepository stockRepository;
+    private final StockSearchProperties properties;
+    private volatile StockSearchIndex index;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 인덱스가 아직 만들어지지 않았다면 빈 값을 반환합니다.
+     */
+    public Optional<List<Stock>> search(final String keyword, final int pageNumber, final int pageSize) {
+        StockSearchIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.search(keyword, pageNumber, pageSize));
+    }
+
+    public Optional<List<Stock>> searchAfter(final String keyword, final int lastPriority, final String lastTicker, final int pageSize) {
+        StockSearchIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.searchAfter(keyword, lastPriority, lastTicker, pageSize));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (properties.getIndexEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 배치 작업이 종목 정보를 갱신하면 인덱스를 다시 만듭니다.
+     */
+    @EventListener
+    public void rebuildOnStockUpdate(final DataVersionChangedEvent event) {
+        if (properties.getIndexEnabled() && event.type() == DataVersionType.STOCK) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        lock.lock();
+        long start = System.currentTimeMillis();
+        try {
+            StockSearchIndex rebuilt = StockSearchIndex.of(stockRepository.findAll());
+            index = rebuilt;
+            log.info("stock search index rebuilt: size={}, elapsed={}ms", rebuilt.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("fail to rebuild stock search index: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package nexters.payout.apiserver.stock.application.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("search.stock")
+@RequiredArgsConstructor
+@Getter
+public class StockSearchProperties {
+    final Boolean indexEnabled;
+}
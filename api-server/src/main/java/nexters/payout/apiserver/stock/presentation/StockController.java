@@ -4,12 +4,16 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import nexters.payout.apiserver.dataversion.presentation.DataVersionValidator;
 import nexters.payout.apiserver.stock.application.StockQueryService;
 import nexters.payout.apiserver.stock.application.dto.request.SectorRatioRequest;
+import nexters.payout.apiserver.stock.application.dto.request.StockDetailsRequest;
 import nexters.payout.apiserver.stock.application.dto.response.*;
 import nexters.payout.domain.stock.domain.Sector;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,25 +22,42 @@ import java.util.List;
 @RequestMapping("/api/stocks")
 public class StockController implements StockControllerDocs {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final StockQueryService stockQueryService;
+    private final DataVersionValidator dataVersionValidator;
 
     @GetMapping("/search")
     public ResponseEntity<List<StockResponse>> searchStock(
             @RequestParam @NotEmpty final String keyword,
-            @RequestParam @NotNull final Integer pageNumber,
+            @RequestParam(required = false) final Integer pageNumber,
+            @RequestParam(required = false) final String cursor,
             @RequestParam @NotNull final Integer pageSize
     ) {
-        return ResponseEntity.ok(stockQueryService.searchStock(keyword, pageNumber, pageSize));
+        return toResponse(ResponseEntity.ok(), stockQueryService.searchStock(keyword, pageNumber, cursor, pageSize));
     }
 
     @GetMapping("/{ticker}")
     public ResponseEntity<StockDetailResponse> getStockByTicker(
-            @PathVariable final String ticker
+            @PathVariable final String ticker,
+            final WebRequest webRequest
     ) {
-        return ResponseEntity.ok(stockQueryService.getStockByTicker(ticker));
+        if (dataVersionValidator.checkNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(stockQueryService.getStockByTicker(ticker));
     }
 
 
+    @PostMapping("/details")
+    public ResponseEntity<StockDetailsResponse> getStocksByTickers(
+            @Valid @RequestBody final StockDetailsRequest request
+    ) {
+        return ResponseEntity.ok(stockQueryService.getStocksByTickers(request));
+    }
+
     @PostMapping("/sector-ratio")
     public ResponseEntity<List<SectorRatioResponse>> findSectorRatios(
             @Valid @RequestBody final SectorRatioRequest request
@@ -47,18 +68,35 @@ public class StockController implements StockControllerDocs {
     @GetMapping("/ex-dividend-dates/upcoming")
     public ResponseEntity<UpcomingDividendResponse> getUpComingDividendStocks(
             @RequestParam @NotNull final Sector sector,
-            @RequestParam @NotNull final Integer pageNumber,
-            @RequestParam @NotNull final Integer pageSize
+            @RequestParam(required = false) final Integer pageNumber,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam @NotNull final Integer pageSize,
+            final WebRequest webRequest
     ) {
-        return ResponseEntity.ok(stockQueryService.getUpcomingDividendStocks(sector, pageNumber, pageSize));
+        if (dataVersionValidator.checkNotModified(webRequest)) {
+            return null;
+        }
+        return toResponse(ResponseEntity.ok().cacheControl(CacheControl.noCache()), stockQueryService.getUpcomingDividendStocks(sector, pageNumber, cursor, pageSize));
     }
 
     @GetMapping("/dividend-yields/highest")
     public ResponseEntity<StockDividendYieldResponse> getBiggestDividendYieldStocks(
             @RequestParam @NotNull final Sector sector,
-            @RequestParam @NotNull final Integer pageNumber,
-            @RequestParam @NotNull final Integer pageSize
+            @RequestParam(required = false) final Integer pageNumber,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam @NotNull final Integer pageSize,
+            final WebRequest webRequest
     ) {
-        return ResponseEntity.ok(stockQueryService.getBiggestDividendStocks(sector, pageNumber, pageSize));
+        if (dataVersionValidator.checkNotModified(webRequest)) {
+            return null;
+        }
+        return toResponse(ResponseEntity.ok().cacheControl(CacheControl.noCache()), stockQueryService.getBiggestDividendStocks(sector, pageNumber, cursor, pageSize));
+    }
+
+    private <T> ResponseEntity<T> toResponse(final ResponseEntity.BodyBuilder builder, final CursorPage<T> page) {
+        if (page.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return builder.body(page.content());
     }
 }
@@ -12,6 +12,7 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import nexters.payout.apiserver.dividend.application.dto.request.DividendRequest;
 import nexters.payout.apiserver.stock.application.dto.request.SectorRatioRequest;
+import nexters.payout.apiserver.stock.application.dto.request.StockDetailsRequest;
 import nexters.payout.apiserver.stock.application.dto.response.*;
 import nexters.payout.core.exception.ErrorResponse;
 import nexters.payout.domain.stock.domain.Sector;
@@ -19,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -35,14 +37,17 @@ public interface StockControllerDocs {
     ResponseEntity<List<StockResponse>> searchStock(
             @Parameter(description = "ticker name or company name of stock ex) APPL, APPLE", required = true)
             @RequestParam @NotEmpty String ticker,
-            @Parameter(description = "page number(start with 1) for pagination", example = "1", required = true)
-            @RequestParam @NotNull final Integer pageNumber,
+            @Parameter(description = "page number(start with 1) for pagination, required when cursor is absent", example = "1")
+            @RequestParam(required = false) final Integer pageNumber,
+            @Parameter(description = "cursor from the X-Next-Cursor header of the previous page, takes precedence over pageNumber")
+            @RequestParam(required = false) final String cursor,
             @Parameter(description = "page size for pagination", example = "20", required = true)
             @RequestParam @NotNull final Integer pageSize
     );
 
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "SUCCESS"),
+            @ApiResponse(responseCode = "304", description = "NOT MODIFIED"),
             @ApiResponse(responseCode = "400", description = "BAD REQUEST",
                     content = {@Content(schema = @Schema(implementation = ErrorResponse.class))}),
             @ApiResponse(responseCode = "404", description = "NOT FOUND",
@@ -53,9 +58,28 @@ public interface StockControllerDocs {
     @Operation(summary = "종목 상세 조회")
     ResponseEntity<StockDetailResponse> getStockByTicker(
             @Parameter(description = "ticker name of stock", example = "AAPL", required = true)
-            @PathVariable String ticker
+            @PathVariable String ticker,
+            @Parameter(hidden = true) WebRequest webRequest
     );
 
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "SUCCESS"),
+            @ApiResponse(responseCode = "400", description = "BAD REQUEST",
+                    content = {@Content(schema = @Schema(implementation = ErrorResponse.class))}),
+            @ApiResponse(responseCode = "500", description = "SERVER ERROR",
+                    content = {@Content(schema = @Schema(implementation = ErrorResponse.class))})
+    })
+    @Operation(summary = "여러 종목 상세 조회",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = StockDetailsRequest.class),
+                            examples = {
+                                    @ExampleObject(name = "StockDetailsRequestExample", value = "{\"tickers\":[\"AAPL\",\"TSLA\"]}")
+                            })))
+    ResponseEntity<StockDetailsResponse> getStocksByTickers(
+            @Valid @RequestBody final StockDetailsRequest request);
+
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "SUCCESS"),
             @ApiResponse(responseCode = "400", description = "BAD REQUEST",
@@ -78,6 +102,7 @@ public interface StockControllerDocs {
 
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "SUCCESS"),
+            @ApiResponse(responseCode = "304", description = "NOT MODIFIED"),
             @ApiResponse(responseCode = "400", description = "BAD REQUEST",
                     content = {@Content(schema = @Schema(implementation = ErrorResponse.class))}),
             @ApiResponse(responseCode = "500", description = "SERVER ERROR",
@@ -87,14 +112,18 @@ public interface StockControllerDocs {
     ResponseEntity<UpcomingDividendResponse> getUpComingDividendStocks(
             @Parameter(description = "sector value", example = "TECHNOLOGY", required = true)
             @RequestParam @NotNull final Sector sector,
-            @Parameter(description = "page number(start with 1) for pagination", example = "1", required = true)
-            @RequestParam @NotNull final Integer pageNumber,
+            @Parameter(description = "page number(start with 1) for pagination, required when cursor is absent", example = "1")
+            @RequestParam(required = false) final Integer pageNumber,
+            @Parameter(description = "cursor from the X-Next-Cursor header of the previous page, takes precedence over pageNumber")
+            @RequestParam(required = false) final String cursor,
             @Parameter(description = "page size for pagination", example = "20", required = true)
-            @RequestParam @NotNull final Integer pageSize
+            @RequestParam @NotNull final Integer pageSize,
+            @Parameter(hidden = true) WebRequest webRequest
     );
 
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "SUCCESS"),
+            @ApiResponse(responseCode = "304", description = "NOT MODIFIED"),
             @ApiResponse(responseCode = "400", description = "BAD REQUEST",
                     content = {@Content(schema = @Schema(implementation = ErrorResponse.class))}),
             @ApiResponse(responseCode = "500", description = "SERVER ERROR",
@@ -104,10 +133,13 @@ public interface StockControllerDocs {
     ResponseEntity<StockDividendYieldResponse> getBiggestDividendYieldStocks(
             @Parameter(description = "sector value", example = "TECHNOLOGY", required = true)
             @RequestParam @NotNull final Sector sector,
-            @Parameter(description = "page number(start with 1) for pagination", example = "1", required = true)
-            @RequestParam @NotNull final Integer pageNumber,
+            @Parameter(description = "page number(start with 1) for pagination, required when cursor is absent", example = "1")
+            @RequestParam(required = false) final Integer pageNumber,
+            @Parameter(description = "cursor from the X-Next-Cursor header of the previous page, takes precedence over pageNumber")
+            @RequestParam(required = false) final String cursor,
             @Parameter(description = "page size for pagination", example = "20", required = true)
-            @RequestParam @NotNull final Integer pageSize
+            @RequestParam @NotNull final Integer pageSize,
+            @Parameter(hidden = true) WebRequest webRequest
     );
 }
 
@@ -0,0 +1,57 @@
+package nexters.payout.apiserver.common;
+
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import nexters.payout.apiserver.config.QueryCountFilter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답의 X-Query-Count 헤더를 확인해 요청마다 @QueryBudget 이하의 구문만 실행했는지 검증합니다.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+    private static final String FILTERS = "filters";
+
+    @Override
+    public void beforeTestExecution(final ExtensionContext context) {
+        QueryBudget budget = AnnotatedElementUtils.findMergedAnnotation(context.getRequiredTestMethod(), QueryBudget.class);
+        if (budget == null) {
+            return;
+        }
+
+        List<Filter> filters = new ArrayList<>(RestAssured.filters());
+        context.getStore(NAMESPACE).put(FILTERS, filters);
+
+        RestAssured.filters((request, response, filterContext) -> {
+            Response actual = filterContext.next(request, response);
+            String count = actual.getHeader(QueryCountFilter.QUERY_COUNT_HEADER);
+
+            assertThat(count)
+                    .as("%s 응답에 %s 헤더가 없습니다.", request.getURI(), QueryCountFilter.QUERY_COUNT_HEADER)
+                    .isNotNull();
+            assertThat(Long.parseLong(count))
+                    .as("%s %s 요청의 JDBC 구문 수", request.getMethod(), request.getURI())
+                    .isLessThanOrEqualTo(budget.value());
+            return actual;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterTestExecution(final ExtensionContext context) {
+        List<Filter> filters = context.getStore(NAMESPACE).remove(FILTERS, List.class);
+        if (filters != null) {
+            RestAssured.replaceFiltersWith(filters);
+        }
+    }
+}
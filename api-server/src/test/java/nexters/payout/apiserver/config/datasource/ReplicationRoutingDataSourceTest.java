@@ -0,0 +1,112 @@
+package nexters.payout.apiserver.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ReplicationRoutingDataSourceTest {
+
+    private DriverManagerDataSource replica;
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primary = h2("primary");
+        replica = h2("replica");
+
+        routingDataSource = new ReplicationRoutingDataSource(primary, Map.of("replica-1", replica));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicationContext.clear();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica에서_읽고_그_외에는_primary에서_읽는다() {
+        // when
+        String readOnly = read(true);
+        String readWrite = read(false);
+
+        // then
+        assertAll(
+                () -> assertThat(readOnly).isEqualTo("replica"),
+                () -> assertThat(readWrite).isEqualTo("primary")
+        );
+    }
+
+    @Test
+    void primary가_강제되면_읽기_전용_트랜잭션도_primary에서_읽는다() {
+        // given
+        ReplicationContext.forcePrimary();
+
+        // when
+        String actual = read(true);
+
+        // then
+        assertThat(actual).isEqualTo("primary");
+    }
+
+    @Test
+    void replica에_연결할_수_없으면_primary에서_읽고_순환에서_제외한다() {
+        // given
+        replica.setUrl("jdbc:h2:tcp://localhost:1/unreachable");
+
+        // when
+        String actual = read(true);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo("primary"),
+                () -> assertThat(routingDataSource.getHealthyReplicas()).isEmpty()
+        );
+    }
+
+    @Test
+    void 연결이_복구된_replica는_상태_확인_후_다시_사용한다() {
+        // given
+        String url = replica.getUrl();
+        replica.setUrl("jdbc:h2:tcp://localhost:1/unreachable");
+        routingDataSource.checkReplicas();
+        replica.setUrl(url);
+
+        // when
+        routingDataSource.checkReplicas();
+
+        // then
+        assertAll(
+                () -> assertThat(routingDataSource.getHealthyReplicas()).containsExactly("replica-1"),
+                () -> assertThat(read(true)).isEqualTo("replica")
+        );
+    }
+
+    private String read(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private DriverManagerDataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists node (name varchar(20))");
+        template.execute("delete from node");
+        template.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,33 @@
+package nexters.payout.apiserver.config.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class PayloadSizeRequestBodyAdviceTest {
+
+    @Test
+    void 빈_본문은_0_구간으로_분류한다() {
+        // when
+        String actual = PayloadSizeRequestBodyAdvice.sizeClass(0);
+
+        // then
+        assertThat(actual).isEqualTo("0");
+    }
+
+    @Test
+    void 구간의_경계값은_작은_구간에_포함된다() {
+        // when, then
+        assertAll(
+                () -> assertThat(PayloadSizeRequestBodyAdvice.sizeClass(1)).isEqualTo("1"),
+                () -> assertThat(PayloadSizeRequestBodyAdvice.sizeClass(2)).isEqualTo("2-5"),
+                () -> assertThat(PayloadSizeRequestBodyAdvice.sizeClass(5)).isEqualTo("2-5"),
+                () -> assertThat(PayloadSizeRequestBodyAdvice.sizeClass(6)).isEqualTo("6-20"),
+                () -> assertThat(PayloadSizeRequestBodyAdvice.sizeClass(20)).isEqualTo("6-20"),
+                () -> assertThat(PayloadSizeRequestBodyAdvice.sizeClass(21)).isEqualTo("21-100"),
+                () -> assertThat(PayloadSizeRequestBodyAdvice.sizeClass(100)).isEqualTo("21-100"),
+                () -> assertThat(PayloadSizeRequestBodyAdvice.sizeClass(101)).isEqualTo("101+")
+        );
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
@@ -36,31 +37,27 @@ public abstract class GivenFixtureTest {
     @Mock
     protected StockRepository stockRepository;
 
+    private final List<Stock> monthlyStocks = new ArrayList<>();
+    private final List<Dividend> monthlyDividends = new ArrayList<>();
+
     public void givenStockAndDividendForMonthly(String ticker, Sector sector, double dividend, int... cycle) {
         Stock stock = StockFixture.createStock(ticker, sector);
-        given(stockRepository.findByTicker(eq(ticker))).willReturn(Optional.of(stock));
+        monthlyStocks.add(stock);
 
         for (int month = JANUARY; month <= DECEMBER; month++) {
             if (isContain(cycle, month)) {
                 // 배당 주기에 해당하는 경우
-                given(dividendRepository.findAllByTickerAndYearAndMonth(
-                        eq(ticker),
-                        eq(InstantProvider.getLastYear()),
-                        eq(month)))
-                        .willReturn(List.of(DividendFixture.createDividend(
-                                stock.getId(),
-                                dividend,
-                                parseDate(InstantProvider.getLastYear(), month)
-                        )));
-            } else {
-                // 배당 주기에 해당하지 않는 경우
-                given(dividendRepository.findAllByTickerAndYearAndMonth(
-                        eq(ticker),
-                        eq(InstantProvider.getLastYear()),
-                        eq(month)))
-                        .willReturn(new ArrayList<>());
+                monthlyDividends.add(DividendFixture.createDividend(
+                        stock.getId(),
+                        dividend,
+                        parseDate(InstantProvider.getLastYear(), month)
+                ));
             }
         }
+
+        given(stockRepository.findAllByTickerIn(anyList())).willReturn(monthlyStocks);
+        given(dividendRepository.findAllByIdsAndYear(anyList(), eq(InstantProvider.getLastYear())))
+                .willReturn(monthlyDividends);
     }
 
     public void givenStockAndDividendForYearly(String ticker, Sector sector, double dividend, int... cycle) {
@@ -3,6 +3,7 @@ package nexters.payout.apiserver.dividend.presentation;
 import io.restassured.RestAssured;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
+import jakarta.persistence.EntityManagerFactory;
 import nexters.payout.apiserver.dividend.application.dto.request.DividendRequest;
 import nexters.payout.apiserver.dividend.application.dto.request.TickerShare;
 import nexters.payout.apiserver.dividend.application.dto.response.MonthlyDividendResponse;
@@ -14,7 +15,10 @@ import nexters.payout.domain.DividendFixture;
 import nexters.payout.domain.StockFixture;
 import nexters.payout.domain.stock.domain.Sector;
 import nexters.payout.domain.stock.domain.Stock;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -31,6 +35,9 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class DividendControllerTest extends IntegrationTest {
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void 월별_배당금_조회시_티커를_찾을수없는경우_404_예외가_발생한다() {
         // given
@@ -180,6 +187,21 @@ class DividendControllerTest extends IntegrationTest {
         );
     }
 
+    @Test
+    void 월별_배당금_조회시_종목_수와_관계없이_실행되는_쿼리_수가_일정하다() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        DividendRequest fewTickersRequest = stocksAndDividendsGiven("FEW", 2);
+        DividendRequest manyTickersRequest = stocksAndDividendsGiven("MANY", 20);
+
+        // when
+        long fewTickersQueryCount = countMonthlyDividendQueries(statistics, fewTickersRequest);
+        long manyTickersQueryCount = countMonthlyDividendQueries(statistics, manyTickersRequest);
+
+        // then
+        assertThat(manyTickersQueryCount).isEqualTo(fewTickersQueryCount);
+    }
+
     @Test
     void 월별_배당금_조회시_빈_리스트로_요청한_경우_400_예외가_발생한다() {
         // given
@@ -313,6 +335,35 @@ class DividendControllerTest extends IntegrationTest {
                 parseDate(InstantProvider.getLastYear(), 6)));
     }
 
+    private DividendRequest stocksAndDividendsGiven(String tickerPrefix, int count) {
+        List<TickerShare> tickerShares = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Stock stock = stockRepository.save(StockFixture.createStock(tickerPrefix + i, Sector.TECHNOLOGY));
+            for (int month = 1; month <= 12; month += 3) {
+                dividendRepository.save(DividendFixture.createDividend(
+                        stock.getId(),
+                        1.0,
+                        parseDate(InstantProvider.getLastYear(), month)));
+            }
+            tickerShares.add(new TickerShare(stock.getTicker(), 1));
+        }
+        return new DividendRequest(tickerShares);
+    }
+
+    private long countMonthlyDividendQueries(Statistics statistics, DividendRequest request) {
+        statistics.clear();
+
+        RestAssured
+                .given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when().post("api/dividends/monthly")
+                .then()
+                .statusCode(SC_OK);
+
+        return statistics.getPrepareStatementCount();
+    }
+
     private Instant parseDate(int year, int month) {
         LocalDate date = LocalDate.of(year, month, 1);
         ZonedDateTime zonedDateTime = date.atStartOfDay(ZoneId.of("UTC"));
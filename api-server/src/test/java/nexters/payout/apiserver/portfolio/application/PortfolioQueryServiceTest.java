@@ -1,5 +1,6 @@
 package nexters.payout.apiserver.portfolio.application;
 
+import nexters.payout.apiserver.config.datasource.RecentWrites;
 import nexters.payout.apiserver.portfolio.application.dto.request.PortfolioRequest;
 import nexters.payout.apiserver.portfolio.application.dto.request.TickerShare;
 import nexters.payout.apiserver.portfolio.application.dto.response.MonthlyDividendResponse;
@@ -10,8 +11,8 @@ import nexters.payout.apiserver.portfolio.common.GivenFixtureTest;
 import nexters.payout.apiserver.stock.application.dto.response.SectorRatioResponse;
 import nexters.payout.apiserver.stock.application.dto.response.StockResponse;
 import nexters.payout.apiserver.stock.application.dto.response.StockShareResponse;
-import nexters.payout.core.time.InstantProvider;
 import nexters.payout.domain.StockFixture;
+import nexters.payout.domain.portfolio.application.PortfolioCommandService;
 import nexters.payout.domain.portfolio.domain.Portfolio;
 import nexters.payout.domain.portfolio.domain.PortfolioStock;
 import nexters.payout.domain.portfolio.domain.repository.PortfolioRepository;
@@ -25,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDate;
 import java.time.ZoneOffset;
@@ -53,6 +55,12 @@ class PortfolioQueryServiceTest extends GivenFixtureTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Mock
+    private RecentWrites recentWrites;
+
+    @Mock
+    private PortfolioCommandService portfolioCommandService;
+
     @InjectMocks
     private PortfolioQueryService portfolioQueryService;
 
@@ -64,25 +72,38 @@ class PortfolioQueryServiceTest extends GivenFixtureTest {
         // given
         Stock appl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY, 4.0);
         Stock tsla = StockFixture.createStock(TSLA, Sector.CONSUMER_CYCLICAL, 2.2);
-        given(stockRepository.findByTicker(eq(AAPL))).willReturn(Optional.of(appl));
-        given(stockRepository.findByTicker(eq(TSLA))).willReturn(Optional.of(tsla));
-
-        given(portfolioRepository.save(any())).willReturn(createPortfolio(
-                        UUID.fromString("67221662-c2f7-4f35-9447-6a65ca88d5ea"),
-                        InstantProvider.getExpireAt(),
-                        List.of(
-                                new PortfolioStock(UUID.randomUUID(), 2),
-                                new PortfolioStock(UUID.randomUUID(), 1)
-                        )
-                )
-        );
-        String expected = "67221662-c2f7-4f35-9447-6a65ca88d5ea";
+        given(stockRepository.findAllByTickerIn(List.of(AAPL, TSLA))).willReturn(List.of(appl, tsla));
+
+        UUID expected = UUID.fromString("67221662-c2f7-4f35-9447-6a65ca88d5ea");
+        given(portfolioCommandService.saveOrExtend(any())).willReturn(expected);
 
         // when
         PortfolioResponse actual = portfolioQueryService.createPortfolio(request());
 
         // then
-        assertThat(actual.id()).isEqualTo(UUID.fromString(expected));
+        assertThat(actual.id()).isEqualTo(expected);
+    }
+
+    @Test
+    void 같은_구성의_포트폴리오가_동시에_저장되면_먼저_저장된_포트폴리오를_재사용한다() {
+        // given
+        Stock appl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY, 4.0);
+        Stock tsla = StockFixture.createStock(TSLA, Sector.CONSUMER_CYCLICAL, 2.2);
+        given(stockRepository.findAllByTickerIn(List.of(AAPL, TSLA))).willReturn(List.of(appl, tsla));
+
+        UUID expected = UUID.randomUUID();
+        given(portfolioCommandService.saveOrExtend(any()))
+                .willThrow(new DataIntegrityViolationException("uk_portfolio_content_hash"))
+                .willReturn(expected);
+
+        // when
+        PortfolioResponse actual = portfolioQueryService.createPortfolio(request());
+
+        // then
+        assertAll(
+                () -> assertThat(actual.id()).isEqualTo(expected),
+                () -> verify(portfolioCommandService, times(2)).saveOrExtend(any())
+        );
     }
 
     @Test
@@ -90,12 +111,12 @@ class PortfolioQueryServiceTest extends GivenFixtureTest {
         // given
         Stock aapl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY, 2.0);
         UUID portfolioId = UUID.randomUUID();
-        given(portfolioRepository.findById(portfolioId)).willReturn(Optional.of(
+        given(portfolioRepository.findWithStocksById(portfolioId)).willReturn(Optional.of(
                 createPortfolio(
                         List.of(new PortfolioStock(aapl.getId(), 2))
                 ))
         );
-        given(stockRepository.findById(any())).willReturn(Optional.of(aapl));
+        given(stockRepository.findAllById(any())).willReturn(List.of(aapl));
 
         List<SectorRatioResponse> expected = List.of(
                 new SectorRatioResponse(
@@ -174,7 +195,7 @@ class PortfolioQueryServiceTest extends GivenFixtureTest {
                 portfolioStocks
         );
 
-        given(portfolioRepository.findById(eq(id))).willReturn(Optional.of(portfolio));
+        given(portfolioRepository.findWithStocksById(eq(id))).willReturn(Optional.of(portfolio));
     }
 
     private void givenPortfolioForYearlyDividend(UUID id) {
@@ -194,7 +215,7 @@ class PortfolioQueryServiceTest extends GivenFixtureTest {
                 portfolioStocks
         );
 
-        given(portfolioRepository.findById(eq(id))).willReturn(Optional.of(portfolio));
+        given(portfolioRepository.findWithStocksById(eq(id))).willReturn(Optional.of(portfolio));
     }
 
     private PortfolioRequest request() {
@@ -13,6 +13,7 @@ import nexters.payout.domain.portfolio.domain.PortfolioStock;
 import nexters.payout.domain.stock.domain.Sector;
 import nexters.payout.domain.stock.domain.Stock;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.*;
 import java.util.List;
@@ -26,6 +27,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class PortfolioEventHandlerTest extends IntegrationTest {
 
+    @Autowired
+    private PortfolioEventHandler portfolioEventHandler;
+
     @Test
     void 포트폴리오_조회시_조회수가_늘어난다() {
         // given
@@ -42,6 +46,7 @@ class PortfolioEventHandlerTest extends IntegrationTest {
                 .statusCode(SC_OK)
                 .extract()
                 .as(new TypeRef<>(){});
+        portfolioEventHandler.flushHits();
 
         // then
         assertThat(portfolioRepository.findById(portfolio.getId()).get().getHits()).isEqualTo(1);
@@ -61,11 +66,33 @@ class PortfolioEventHandlerTest extends IntegrationTest {
             thread.start();
         }
         latch.await();
+        portfolioEventHandler.flushHits();
 
         // then
         assertThat(portfolioRepository.findById(portfolio.getId()).get().getHits()).isEqualTo(100);
     }
 
+    @Test
+    void 조회수를_반영해도_포트폴리오_버전은_변경되지_않는다() {
+        // given
+        Portfolio portfolio = stockAndDividendAndPortfolioGiven();
+        portfolioRepository.flush();
+        Long expected = portfolioRepository.findById(portfolio.getId()).get().getVersion();
+
+        // when
+        RestAssured
+                .given()
+                .log().all()
+                .contentType(ContentType.JSON)
+                .when().get(String.format("api/portfolios/%s/sector-ratio", portfolio.getId()))
+                .then().log().all()
+                .statusCode(SC_OK);
+        portfolioEventHandler.flushHits();
+
+        // then
+        assertThat(portfolioRepository.findById(portfolio.getId()).get().getVersion()).isEqualTo(expected);
+    }
+
     private Portfolio stockAndDividendAndPortfolioGiven() {
         Stock aapl = stockRepository.save(StockFixture.createStock(AAPL, Sector.TECHNOLOGY));
         Stock tsla = stockRepository.save(StockFixture.createStock(TSLA, Sector.CONSUMER_CYCLICAL));
@@ -125,4 +152,4 @@ class PortfolioEventHandlerTest extends IntegrationTest {
             }
         }
     }
-}
\ No newline at end of file
+}
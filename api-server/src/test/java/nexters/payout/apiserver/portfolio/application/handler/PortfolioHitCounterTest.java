@@ -0,0 +1,45 @@
+package nexters.payout.apiserver.portfolio.application.handler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortfolioHitCounterTest {
+
+    private final PortfolioHitCounter portfolioHitCounter = new PortfolioHitCounter();
+
+    @Test
+    void 조회수를_꺼내는_도중에_누적된_조회수도_유실되지_않는다() throws InterruptedException {
+        // given
+        UUID portfolioId = UUID.randomUUID();
+        int threadCount = 8;
+        int hitsPerThread = 10_000;
+        AtomicLong drained = new AtomicLong();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < hitsPerThread; j++) {
+                    portfolioHitCounter.increment(portfolioId);
+                }
+                latch.countDown();
+            });
+        }
+        while (latch.getCount() > 0) {
+            drained.addAndGet(portfolioHitCounter.drain().getOrDefault(portfolioId, 0L));
+        }
+        drained.addAndGet(portfolioHitCounter.drain().getOrDefault(portfolioId, 0L));
+        executorService.shutdown();
+
+        // then
+        assertThat(drained.get()).isEqualTo((long) threadCount * hitsPerThread);
+    }
+}
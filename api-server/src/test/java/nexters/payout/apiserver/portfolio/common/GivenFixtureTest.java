@@ -18,6 +18,8 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
@@ -33,40 +35,29 @@ public abstract class GivenFixtureTest {
     @Mock
     protected StockRepository stockRepository;
 
+    private final List<Stock> stocks = new ArrayList<>();
+    private final List<Dividend> dividends = new ArrayList<>();
+
     public Stock givenStockAndDividendForMonthly(String ticker, Sector sector, double dividend, int... cycle) {
         Stock stock = StockFixture.createStock(ticker, sector);
-        given(stockRepository.findById(eq(stock.getId()))).willReturn(Optional.of(stock));
 
         for (int month = JANUARY; month <= DECEMBER; month++) {
             if (isContain(cycle, month)) {
                 // 배당 주기에 해당하는 경우
-                given(dividendRepository.findAllByIdAndYearAndMonth(
-                        eq(stock.getId()),
-                        eq(InstantProvider.getLastYear()),
-                        eq(month)))
-                        .willReturn(List.of(DividendFixture.createDividend(
-                                stock.getId(),
-                                dividend,
-                                parseDate(InstantProvider.getLastYear(), month)
-                        )));
-            } else {
-                // 배당 주기에 해당하지 않는 경우
-                given(dividendRepository.findAllByIdAndYearAndMonth(
-                        eq(stock.getId()),
-                        eq(InstantProvider.getLastYear()),
-                        eq(month)))
-                        .willReturn(new ArrayList<>());
+                dividends.add(DividendFixture.createDividend(
+                        stock.getId(),
+                        dividend,
+                        parseDate(InstantProvider.getLastYear(), month)
+                ));
             }
         }
 
-        return stock;
+        return givenStockAndDividends(stock);
     }
 
     public Stock givenStockAndDividendForYearly(String ticker, Sector sector, double dividend, int... cycle) {
         Stock stock = StockFixture.createStock(ticker, sector);
-        given(stockRepository.findById(eq(stock.getId()))).willReturn(Optional.of(stock));
 
-        List<Dividend> dividends = new ArrayList<>();
         for (int month : cycle) {
             dividends.add(DividendFixture.createDividend(
                     stock.getId(),
@@ -74,9 +65,13 @@ public abstract class GivenFixtureTest {
                     parseDate(InstantProvider.getLastYear(), month)));
         }
 
-        given(dividendRepository.findAllByIdAndYear(
-                eq(stock.getId()),
-                eq(InstantProvider.getLastYear())))
+        return givenStockAndDividends(stock);
+    }
+
+    private Stock givenStockAndDividends(Stock stock) {
+        stocks.add(stock);
+        given(stockRepository.findAllById(any())).willReturn(stocks);
+        given(dividendRepository.findAllByIdsAndYear(anyList(), eq(InstantProvider.getLastYear())))
                 .willReturn(dividends);
 
         return stock;
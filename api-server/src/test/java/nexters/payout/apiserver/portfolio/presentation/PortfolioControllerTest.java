@@ -3,7 +3,9 @@ package nexters.payout.apiserver.portfolio.presentation;
 import io.restassured.RestAssured;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
+import nexters.payout.apiserver.common.QueryBudget;
 import nexters.payout.apiserver.portfolio.application.dto.response.MonthlyDividendResponse;
+import nexters.payout.apiserver.portfolio.application.dto.response.PortfolioResponse;
 import nexters.payout.apiserver.portfolio.application.dto.request.PortfolioRequest;
 import nexters.payout.apiserver.portfolio.application.dto.request.TickerShare;
 import nexters.payout.apiserver.portfolio.application.dto.response.SectorRatioResponse;
@@ -24,7 +26,11 @@ import org.junit.jupiter.api.Test;
 import java.time.*;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
 
 import static nexters.payout.domain.StockFixture.AAPL;
 import static nexters.payout.domain.StockFixture.TSLA;
@@ -88,6 +94,45 @@ public class PortfolioControllerTest extends IntegrationTest {
                 .as(ErrorResponse.class);
     }
 
+    @Test
+    void 같은_구성의_포트폴리오를_동시에_생성하면_하나의_포트폴리오를_공유한다() throws Exception {
+        // given
+        stockRepository.save(StockFixture.createStock(AAPL, Sector.TECHNOLOGY));
+        stockRepository.save(StockFixture.createStock(TSLA, Sector.CONSUMER_CYCLICAL));
+        int requestCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<PortfolioResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return RestAssured
+                        .given()
+                        .contentType(ContentType.JSON)
+                        .body(request())
+                        .when().post("api/portfolios")
+                        .then()
+                        .statusCode(SC_OK)
+                        .extract()
+                        .as(PortfolioResponse.class);
+            }));
+        }
+        start.countDown();
+        Set<UUID> ids = new HashSet<>();
+        for (Future<PortfolioResponse> future : futures) {
+            ids.add(future.get(10, TimeUnit.SECONDS).id());
+        }
+        executor.shutdown();
+
+        // then
+        assertAll(
+                () -> assertThat(ids).hasSize(1),
+                () -> assertThat(portfolioRepository.count()).isEqualTo(1)
+        );
+    }
+
     @Test
     void 포트폴리오_생성시__종목_소유_개수가_0개인_경우_400_예외가_발생한다() {
         // given
@@ -180,6 +225,7 @@ public class PortfolioControllerTest extends IntegrationTest {
     }
 
     @Test
+    @QueryBudget(5)
     void 월별_배당금_조회시_배당금이_존재하는_경우_정상적으로_조회된다() {
         // given
         Portfolio portfolio = stockAndDividendAndPortfolioGiven();
@@ -243,6 +289,7 @@ public class PortfolioControllerTest extends IntegrationTest {
     }
 
     @Test
+    @QueryBudget(5)
     void 연간_배당금_조회시_배당금이_존재하는_경우_정상적으로_조회된다() {
         // given
         Portfolio portfolio = stockAndDividendAndPortfolioGiven();
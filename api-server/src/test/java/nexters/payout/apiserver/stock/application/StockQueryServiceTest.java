@@ -1,9 +1,14 @@
 package nexters.payout.apiserver.stock.application;
 
 import nexters.payout.apiserver.dividend.application.StockDividendQueryServiceImpl;
+import nexters.payout.apiserver.dividend.application.cache.DividendTimelineCache;
+import nexters.payout.apiserver.dividend.application.cache.DividendTimelineCacheProperties;
 import nexters.payout.apiserver.stock.application.dto.request.SectorRatioRequest;
+import nexters.payout.apiserver.stock.application.dto.request.StockDetailsRequest;
 import nexters.payout.apiserver.stock.application.dto.request.TickerShare;
 import nexters.payout.apiserver.stock.application.dto.response.*;
+import nexters.payout.apiserver.stock.application.search.StockSearchIndexHolder;
+import nexters.payout.apiserver.stock.application.search.StockSearchProperties;
 import nexters.payout.core.time.InstantProvider;
 import nexters.payout.apiserver.stock.application.dto.response.SingleUpcomingDividendResponse;
 import nexters.payout.apiserver.stock.application.dto.response.SectorRatioResponse;
@@ -16,6 +21,7 @@ import nexters.payout.domain.dividend.domain.repository.DividendRepository;
 import nexters.payout.domain.stock.infra.dto.StockDividendDto;
 import nexters.payout.domain.stock.domain.Sector;
 import nexters.payout.domain.stock.domain.Stock;
+import nexters.payout.domain.stock.domain.repository.DividendYieldRankRepository;
 import nexters.payout.domain.stock.domain.repository.StockRepository;
 import nexters.payout.domain.stock.domain.service.StockDividendAnalysisService;
 import nexters.payout.domain.stock.domain.service.SectorAnalysisService;
@@ -27,6 +33,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -40,17 +47,23 @@ import static nexters.payout.domain.stock.domain.Sector.TECHNOLOGY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class StockQueryServiceTest {
 
     private StockQueryService stockQueryService;
+    private StockSearchIndexHolder stockSearchIndexHolder;
     @Mock
     private StockRepository stockRepository;
     @Mock
     private DividendRepository dividendRepository;
+    @Mock
+    private DividendYieldRankRepository dividendYieldRankRepository;
     @Spy
     private SectorAnalysisService sectorAnalysisService;
     @Spy
@@ -58,8 +71,10 @@ class StockQueryServiceTest {
 
     @BeforeEach
     void setUp() {
-        StockDividendQueryServiceImpl stockDividendQuery = new StockDividendQueryServiceImpl(stockDividendAnalysisService, stockRepository, dividendRepository);
-        stockQueryService = new StockQueryService(stockRepository, sectorAnalysisService, stockDividendQuery);
+        DividendTimelineCache dividendTimelineCache = new DividendTimelineCache(new DividendTimelineCacheProperties(Duration.ofHours(1), 100L));
+        StockDividendQueryServiceImpl stockDividendQuery = new StockDividendQueryServiceImpl(stockDividendAnalysisService, stockRepository, dividendRepository, dividendTimelineCache);
+        stockSearchIndexHolder = new StockSearchIndexHolder(stockRepository, new StockSearchProperties(true));
+        stockQueryService = new StockQueryService(stockRepository, dividendYieldRankRepository, sectorAnalysisService, stockDividendQuery, stockSearchIndexHolder);
     }
 
     @Test
@@ -78,6 +93,24 @@ class StockQueryServiceTest {
         );
     }
 
+    @Test
+    void 검색_인덱스가_만들어지면_데이터베이스를_조회하지_않고_검색한다() {
+        // given
+        given(stockRepository.findAll()).willReturn(List.of(
+                StockFixture.createStock("BAPA", "Bapa Corp"),
+                StockFixture.createStock(AAPL, "Apple Inc"),
+                StockFixture.createStock("APDD", "Apdd Corp")
+        ));
+        stockSearchIndexHolder.rebuild();
+
+        // when
+        List<StockResponse> actual = stockQueryService.searchStock("AP", 1, 3);
+
+        // then
+        assertThat(actual).extracting(StockResponse::ticker).containsExactly(AAPL, "APDD", "BAPA");
+        verify(stockRepository, never()).findStocksByTickerOrNameWithPriority(any(), any(), any());
+    }
+
     @Test
     void 종목_상세_정보를_정상적으로_반환한다() {
         // given
@@ -104,6 +137,49 @@ class StockQueryServiceTest {
         );
     }
 
+    @Test
+    void 종목_상세_정보를_반복_조회하면_캐시된_배당금_이력을_사용한다() {
+        // given
+        Instant exDividendDate = LocalDate.now(UTC).minusYears(1).withDayOfMonth(1).atStartOfDay().toInstant(UTC);
+        Stock aapl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY, 2.0);
+        Dividend dividend = DividendFixture.createDividend(aapl.getId(), 0.5, exDividendDate);
+
+        given(stockRepository.findByTicker(any())).willReturn(Optional.of(aapl));
+        given(dividendRepository.findAllByStockId(any())).willReturn(List.of(dividend));
+
+        // when
+        StockDetailResponse first = stockQueryService.getStockByTicker(aapl.getTicker());
+        StockDetailResponse second = stockQueryService.getStockByTicker(aapl.getTicker());
+
+        // then
+        assertAll(
+                () -> assertThat(second).isEqualTo(first),
+                () -> verify(dividendRepository, times(1)).findAllByStockId(aapl.getId())
+        );
+    }
+
+    @Test
+    void 여러_종목_상세_정보를_조회하면_존재하지_않는_티커는_따로_반환한다() {
+        // given
+        Instant exDividendDate = LocalDate.now(UTC).minusYears(1).withDayOfMonth(1).atStartOfDay().toInstant(UTC);
+        Stock aapl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY, 2.0);
+        Dividend dividend = DividendFixture.createDividend(aapl.getId(), 0.5, exDividendDate);
+
+        given(stockRepository.findAllByTickerIn(any())).willReturn(List.of(aapl));
+        given(dividendRepository.findAllByStockIdIn(any())).willReturn(List.of(dividend));
+
+        // when
+        StockDetailsResponse actual = stockQueryService.getStocksByTickers(new StockDetailsRequest(List.of(AAPL, "UNKNOWN")));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.stocks()).extracting(StockDetailResponse::ticker).containsExactly(AAPL),
+                () -> assertThat(actual.stocks().get(0).dividendYield()).isEqualTo(0.5 / 2.0),
+                () -> assertThat(actual.unknownTickers()).containsExactly("UNKNOWN"),
+                () -> verify(dividendRepository, never()).findAllByStockId(any())
+        );
+    }
+
     @Test
     void 종목_상세_정보의_배당날짜를_올해기준으로_반환한다() {
         // given
@@ -203,4 +279,21 @@ class StockQueryServiceTest {
                 () -> assertThat(actual.get(0).dividendYield()).isEqualTo(expectedAaplDividendYield)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void 미리_계산된_배당_수익률_순위가_있으면_순위를_그대로_사용한다() {
+        // given
+        Stock expected = StockFixture.createStock(AAPL, TECHNOLOGY, 2.0);
+        given(dividendYieldRankRepository.findRankedDividendYieldStock(InstantProvider.getLastYear(), TECHNOLOGY, 1, 10))
+                .willReturn(List.of(new StockDividendYieldDto(expected, 5.0)));
+
+        // when
+        List<SingleStockDividendYieldResponse> actual = stockQueryService.getBiggestDividendStocks(TECHNOLOGY, 1, 10).dividends();
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(SingleStockDividendYieldResponse::stockId).containsExactly(expected.getId()),
+                () -> verify(stockRepository, never()).findBiggestDividendYieldStock(anyInt(), any(), anyInt(), anyInt())
+        );
+    }
+}
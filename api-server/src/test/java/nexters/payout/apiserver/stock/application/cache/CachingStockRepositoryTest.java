@@ -0,0 +1,186 @@
+package nexters.payout.apiserver.stock.application.cache;
+
+import nexters.payout.apiserver.dataversion.application.DataVersionChangedEvent;
+import nexters.payout.domain.StockFixture;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import nexters.payout.domain.stock.domain.Sector;
+import nexters.payout.domain.stock.domain.Stock;
+import nexters.payout.domain.stock.domain.repository.StockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static nexters.payout.domain.StockFixture.AAPL;
+import static nexters.payout.domain.StockFixture.TSLA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CachingStockRepositoryTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    private StockCache stockCache;
+    private StockRepository cachingStockRepository;
+
+    @BeforeEach
+    void setUp() {
+        stockCache = new StockCache(new StockCacheProperties(Duration.ofHours(1), 100L));
+        cachingStockRepository = CachingStockRepository.wrap(stockRepository, stockCache);
+    }
+
+    @Test
+    void 같은_티커를_다시_조회하면_DB를_조회하지_않는다() {
+        // given
+        Stock aapl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY);
+        given(stockRepository.findByTicker(AAPL)).willReturn(Optional.of(aapl));
+
+        // when
+        cachingStockRepository.findByTicker(AAPL);
+        Optional<Stock> actual = cachingStockRepository.findByTicker(AAPL);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).contains(aapl),
+                () -> assertThat(cachingStockRepository.findById(aapl.getId())).contains(aapl),
+                () -> verify(stockRepository, times(1)).findByTicker(AAPL)
+        );
+    }
+
+    @Test
+    void 여러_티커를_조회하면_캐시에_없는_티커만_DB에서_조회한다() {
+        // given
+        Stock aapl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY);
+        Stock tsla = StockFixture.createStock(TSLA, Sector.CONSUMER_CYCLICAL);
+        given(stockRepository.findByTicker(AAPL)).willReturn(Optional.of(aapl));
+        given(stockRepository.findAllByTickerIn(List.of(TSLA, "UNKNOWN"))).willReturn(List.of(tsla));
+        cachingStockRepository.findByTicker(AAPL);
+
+        // when
+        List<Stock> actual = cachingStockRepository.findAllByTickerIn(List.of(AAPL, TSLA, "UNKNOWN"));
+        cachingStockRepository.findAllByTickerIn(List.of(TSLA, "UNKNOWN"));
+
+        // then
+        assertAll(
+                () -> assertThat(actual).containsExactly(aapl, tsla),
+                () -> verify(stockRepository, times(1)).findAllByTickerIn(List.of(TSLA, "UNKNOWN"))
+        );
+    }
+
+    @Test
+    void 대소문자만_다른_티커는_같은_캐시를_사용한다() {
+        // given
+        Stock aapl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY);
+        Stock tsla = StockFixture.createStock(TSLA, Sector.CONSUMER_CYCLICAL);
+        given(stockRepository.findByTicker(AAPL)).willReturn(Optional.of(aapl));
+        given(stockRepository.findAllByTickerIn(List.of(TSLA))).willReturn(List.of(tsla));
+        cachingStockRepository.findByTicker("aapl");
+
+        // when
+        Optional<Stock> actual = cachingStockRepository.findByTicker(AAPL);
+        List<Stock> actualStocks = cachingStockRepository.findAllByTickerIn(List.of("Aapl", "tsla", TSLA));
+
+        // then
+        assertAll(
+                () -> assertThat(actual).contains(aapl),
+                () -> assertThat(actualStocks).containsExactly(aapl, tsla),
+                () -> verify(stockRepository, times(1)).findByTicker(AAPL),
+                () -> verify(stockRepository, times(1)).findAllByTickerIn(List.of(TSLA))
+        );
+    }
+
+    @Test
+    void 종목_데이터_버전이_바뀌면_캐시를_무효화한다() {
+        // given
+        Stock aapl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY);
+        given(stockRepository.findByTicker(AAPL)).willReturn(Optional.of(aapl));
+        cachingStockRepository.findByTicker(AAPL);
+
+        // when
+        stockCache.invalidate(new DataVersionChangedEvent(DataVersionType.STOCK, 2L));
+        cachingStockRepository.findByTicker(AAPL);
+
+        // then
+        verify(stockRepository, times(2)).findByTicker(AAPL);
+    }
+
+    @Test
+    void 종목을_저장하면_캐시를_무효화한다() {
+        // given
+        Stock aapl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY);
+        given(stockRepository.findByTicker(AAPL)).willReturn(Optional.of(aapl));
+        cachingStockRepository.findByTicker(AAPL);
+
+        // when
+        cachingStockRepository.save(aapl);
+        cachingStockRepository.findByTicker(AAPL);
+
+        // then
+        verify(stockRepository, times(2)).findByTicker(AAPL);
+    }
+
+    @Test
+    void 조회한_종목을_수정해도_캐시된_종목은_바뀌지_않는다() {
+        // given
+        Stock aapl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY, 100.0);
+        given(stockRepository.findByTicker(AAPL)).willReturn(Optional.of(aapl));
+        Stock first = cachingStockRepository.findByTicker(AAPL).orElseThrow();
+
+        // when
+        first.update(200.0, 10, Sector.ENERGY);
+        aapl.update(300.0, 20, Sector.ENERGY);
+        Stock actual = cachingStockRepository.findByTicker(AAPL).orElseThrow();
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isNotSameAs(first),
+                () -> assertThat(actual.getPrice()).isEqualTo(100.0),
+                () -> assertThat(actual.getSector()).isEqualTo(Sector.TECHNOLOGY)
+        );
+    }
+
+    @Test
+    void 조회_메서드가_아닌_StockRepository_메서드는_모두_쓰기_메서드로_등록되어_있다() {
+        // given
+        Set<String> queryPrefixes = Set.of("find", "get", "count", "exists", "flush");
+
+        // when
+        List<String> unregistered = Arrays.stream(StockRepository.class.getMethods())
+                .map(Method::getName)
+                .filter(name -> queryPrefixes.stream().noneMatch(name::startsWith))
+                .filter(name -> !CachingStockRepository.WRITE_METHODS.contains(name))
+                .distinct()
+                .toList();
+
+        // then
+        assertThat(unregistered).isEmpty();
+    }
+
+    @Test
+    void 쓰기_메서드가_아닌_메서드를_호출하면_캐시를_유지한다() {
+        // given
+        Stock aapl = StockFixture.createStock(AAPL, Sector.TECHNOLOGY);
+        given(stockRepository.findByTicker(AAPL)).willReturn(Optional.of(aapl));
+        cachingStockRepository.findByTicker(AAPL);
+
+        // when
+        cachingStockRepository.findAllByLogoUrlIsNull();
+        cachingStockRepository.findByTicker(AAPL);
+
+        // then
+        verify(stockRepository, times(1)).findByTicker(AAPL);
+    }
+}
@@ -0,0 +1,53 @@
+package nexters.payout.apiserver.stock.application.cursor;
+
+import nexters.payout.core.exception.error.BadRequestException;
+import nexters.payout.domain.StockFixture;
+import nexters.payout.domain.stock.domain.Stock;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class StockSearchCursorTest {
+
+    @Test
+    void 대소문자만_다른_검색어로는_커서를_이어서_사용할_수_있다() {
+        // given
+        String cursor = StockSearchCursor.of("ap", StockFixture.createStock("APCC", "CCCC")).encode();
+
+        // when
+        StockSearchCursor actual = StockSearchCursor.decode(cursor, "AP");
+
+        // then
+        assertAll(
+                () -> assertThat(actual.priority()).isEqualTo(1),
+                () -> assertThat(actual.ticker()).isEqualTo("APCC")
+        );
+    }
+
+    @Test
+    void 다른_검색어로_만든_커서는_예외가_발생한다() {
+        // given
+        String cursor = StockSearchCursor.of("AP", StockFixture.createStock("APCC", "CCCC")).encode();
+
+        // when, then
+        assertThatThrownBy(() -> StockSearchCursor.decode(cursor, "CC"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void 티커가_없는_종목으로도_커서를_만들_수_있다() {
+        // given
+        Stock stock = new Stock();
+
+        // when
+        StockSearchCursor actual = StockSearchCursor.decode(StockSearchCursor.of("AP", stock).encode(), "AP");
+
+        // then
+        assertAll(
+                () -> assertThat(actual.priority()).isEqualTo(2),
+                () -> assertThat(actual.ticker()).isEmpty()
+        );
+    }
+}
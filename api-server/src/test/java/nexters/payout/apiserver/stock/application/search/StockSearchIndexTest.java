@@ -0,0 +1,77 @@
+package nexters.payout.apiserver.stock.application.search;
+
+import nexters.payout.domain.StockFixture;
+import nexters.payout.domain.stock.domain.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class StockSearchIndexTest {
+
+    private final StockSearchIndex index = StockSearchIndex.of(List.of(
+            StockFixture.createStock("ABCD", "DDDDA"),
+            StockFixture.createStock("APDD", "AAAAA"),
+            StockFixture.createStock("DDDD", "AAADA"),
+            StockFixture.createStock("DAAA", "BBBBB"),
+            StockFixture.createStock("ZZZZ", "ZZZZZ")
+    ));
+
+    @Test
+    void 티커_접두사가_일치하는_종목을_회사명이_일치하는_종목보다_먼저_반환한다() {
+        // given
+        String keyword = "DA";
+
+        // when
+        List<Stock> actual = index.search(keyword, 1, 10);
+
+        // then
+        assertThat(actual).extracting(Stock::getTicker).containsExactly("DAAA", "ABCD", "DDDD");
+    }
+
+    @Test
+    void 대소문자를_구분하지_않고_검색한다() {
+        // given
+        String keyword = "ap";
+
+        // when
+        List<Stock> actual = index.search(keyword, 1, 10);
+
+        // then
+        assertThat(actual).extracting(Stock::getTicker).containsExactly("APDD");
+    }
+
+    @Test
+    void 우선순위_경계에_걸친_페이지를_정상적으로_반환한다() {
+        // given
+        String keyword = "DA";
+
+        // when
+        List<Stock> firstPage = index.search(keyword, 1, 2);
+        List<Stock> secondPage = index.search(keyword, 2, 2);
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage).extracting(Stock::getTicker).containsExactly("DAAA", "ABCD"),
+                () -> assertThat(secondPage).extracting(Stock::getTicker).containsExactly("DDDD")
+        );
+    }
+
+    @Test
+    void 직전_페이지의_마지막_종목_이후부터_검색한다() {
+        // given
+        String keyword = "DA";
+
+        // when
+        List<Stock> afterPrefix = index.searchAfter(keyword, 1, "DAAA", 10);
+        List<Stock> afterName = index.searchAfter(keyword, 2, "ABCD", 10);
+
+        // then
+        assertAll(
+                () -> assertThat(afterPrefix).extracting(Stock::getTicker).containsExactly("ABCD", "DDDD"),
+                () -> assertThat(afterName).extracting(Stock::getTicker).containsExactly("DDDD")
+        );
+    }
+}
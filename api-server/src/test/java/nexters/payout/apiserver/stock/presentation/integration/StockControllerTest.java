@@ -3,7 +3,12 @@ package nexters.payout.apiserver.stock.presentation.integration;
 import io.restassured.RestAssured;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nexters.payout.apiserver.common.QueryBudget;
+import nexters.payout.apiserver.dataversion.application.DataVersionWatcher;
 import nexters.payout.apiserver.stock.application.dto.request.SectorRatioRequest;
+import nexters.payout.apiserver.stock.application.dto.request.StockDetailsRequest;
 import nexters.payout.apiserver.stock.application.dto.request.TickerShare;
 import nexters.payout.apiserver.stock.application.dto.response.*;
 import nexters.payout.apiserver.stock.common.IntegrationTest;
@@ -11,15 +16,22 @@ import nexters.payout.core.exception.ErrorResponse;
 import nexters.payout.core.time.InstantProvider;
 import nexters.payout.domain.DividendFixture;
 import nexters.payout.domain.StockFixture;
+import nexters.payout.domain.dataversion.application.DataVersionCommandService;
+import nexters.payout.domain.dataversion.domain.DataVersion;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import nexters.payout.domain.dataversion.domain.repository.DataVersionRepository;
 import nexters.payout.domain.stock.domain.Sector;
 import nexters.payout.domain.stock.domain.Stock;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static java.time.ZoneOffset.UTC;
 import static nexters.payout.core.time.InstantProvider.*;
@@ -29,6 +41,22 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 class StockControllerTest extends IntegrationTest {
+
+    @Autowired
+    private DataVersionRepository dataVersionRepository;
+
+    @Autowired
+    private DataVersionCommandService dataVersionCommandService;
+
+    @Autowired
+    private DataVersionWatcher dataVersionWatcher;
+
+    @AfterEach
+    void clearDataVersions() {
+        dataVersionRepository.deleteAll();
+        dataVersionWatcher.refresh();
+    }
+
     @Test
     void 검색키워드가_빈값인_경우_400_예외가_발생한다() {
         // given
@@ -165,6 +193,7 @@ class StockControllerTest extends IntegrationTest {
     }
 
     @Test
+    @QueryBudget(5)
     void 종목_조회시_종목의_정보가_정상적으로_조회된다() {
         // given
         stockRepository.save(StockFixture.createStock(TSLA, Sector.CONSUMER_CYCLICAL));
@@ -214,6 +243,68 @@ class StockControllerTest extends IntegrationTest {
     }
 
 
+    @Test
+    void 여러_종목_조회시_존재하지_않는_티커는_실패_대신_따로_반환한다() {
+        // given
+        Stock aapl = stockRepository.save(StockFixture.createStock(AAPL, Sector.TECHNOLOGY, 2.0));
+        Stock tsla = stockRepository.save(StockFixture.createStock(TSLA, Sector.CONSUMER_CYCLICAL, 4.0));
+        dividendRepository.save(DividendFixture.createDividend(
+                aapl.getId(), 0.5, LocalDate.of(getLastYear(), 3, 1).atStartOfDay().toInstant(UTC)));
+        StockDetailsRequest request = new StockDetailsRequest(List.of(TSLA, "UNKNOWN", AAPL, TSLA));
+
+        // when
+        StockDetailsResponse actual = RestAssured
+                .given()
+                .log().all()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when().post("api/stocks/details")
+                .then().log().all()
+                .statusCode(200)
+                .extract()
+                .as(StockDetailsResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.stocks()).extracting(StockDetailResponse::ticker).containsExactly(TSLA, AAPL),
+                () -> assertThat(actual.stocks().get(1).dividendYield()).isEqualTo(0.5 / 2.0),
+                () -> assertThat(actual.unknownTickers()).containsExactly("UNKNOWN")
+        );
+    }
+
+    @Test
+    void 여러_종목_조회시_티커가_100개를_넘으면_400_예외가_발생한다() {
+        // given
+        List<String> tickers = IntStream.rangeClosed(1, 101).mapToObj(i -> "T" + i).toList();
+
+        // when, then
+        RestAssured
+                .given()
+                .log().all()
+                .contentType(ContentType.JSON)
+                .body(new StockDetailsRequest(tickers))
+                .when().post("api/stocks/details")
+                .then().log().all()
+                .statusCode(400)
+                .extract()
+                .as(ErrorResponse.class);
+    }
+
+    @Test
+    void 여러_종목_조회시_티커_목록이_없으면_400_예외가_발생한다() {
+        // when, then
+        RestAssured
+                .given()
+                .log().all()
+                .contentType(ContentType.JSON)
+                .body("{}")
+                .when().post("api/stocks/details")
+                .then().log().all()
+                .statusCode(400)
+                .extract()
+                .as(ErrorResponse.class);
+    }
+
     @Test
     void 섹터_분석시_빈_리스트로_요청한_경우_400_예외가_발생한다() {
         // given
@@ -506,4 +597,202 @@ class StockControllerTest extends IntegrationTest {
                 () -> assertThat(actual.dividends().size()).isEqualTo(0)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void 검색_결과를_커서로_이어서_조회하면_페이지_번호로_조회한_결과와_같다() {
+        // given
+        stockRepository.save(StockFixture.createStock("APDD", "DDDD"));
+        stockRepository.save(StockFixture.createStock("APCC", "CCCC"));
+        stockRepository.save(StockFixture.createStock("ABCD", "APAP"));
+        stockRepository.save(StockFixture.createStock("ZZZZ", "ZZAP"));
+
+        // when
+        Response firstPage = RestAssured
+                .given()
+                .log().all()
+                .when().get("api/stocks/search?keyword=AP&pageNumber=1&pageSize=3");
+        List<StockResponse> secondPage = RestAssured
+                .given()
+                .log().all()
+                .when().get("api/stocks/search?keyword=AP&cursor=" + firstPage.getHeader("X-Next-Cursor") + "&pageSize=3")
+                .then().log().all()
+                .statusCode(200)
+                .extract()
+                .as(new TypeRef<>() {
+                });
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.as(new TypeRef<List<StockResponse>>() {
+                })).extracting(StockResponse::ticker).containsExactly("APCC", "APDD", "ABCD"),
+                () -> assertThat(secondPage).extracting(StockResponse::ticker).containsExactly("ZZZZ")
+        );
+    }
+
+    @Test
+    void 다른_검색어로_만든_커서로_조회하면_400_예외가_발생한다() {
+        // given
+        stockRepository.save(StockFixture.createStock("APDD", "DDDD"));
+        stockRepository.save(StockFixture.createStock("APCC", "CCCC"));
+        String cursor = RestAssured
+                .given()
+                .log().all()
+                .when().get("api/stocks/search?keyword=AP&pageNumber=1&pageSize=1")
+                .then().log().all()
+                .statusCode(200)
+                .extract()
+                .header("X-Next-Cursor");
+
+        // when, then
+        RestAssured
+                .given()
+                .log().all()
+                .when().get("api/stocks/search?keyword=CC&cursor=" + cursor + "&pageSize=1")
+                .then().log().all()
+                .statusCode(400)
+                .extract()
+                .as(ErrorResponse.class);
+    }
+
+    @Test
+    void 배당락일이_다가오는_주식_리스트를_커서로_이어서_조회한다() {
+        // given
+        Stock aapl = stockRepository.save(StockFixture.createStock(AAPL, Sector.TECHNOLOGY, 5.0));
+        Stock tsla = stockRepository.save(StockFixture.createStock(TSLA, Sector.TECHNOLOGY, 5.0));
+        dividendRepository.save(DividendFixture.createDividend(aapl.getId(), 25.0, LocalDateTime.now().plusDays(2).toInstant(UTC)));
+        dividendRepository.save(DividendFixture.createDividend(tsla.getId(), 30.0, LocalDateTime.now().plusDays(1).toInstant(UTC)));
+
+        // when
+        String cursor = RestAssured
+                .given()
+                .log().all()
+                .when().get("api/stocks/ex-dividend-dates/upcoming?sector=TECHNOLOGY&pageNumber=1&pageSize=1")
+                .then().log().all()
+                .statusCode(200)
+                .extract()
+                .header("X-Next-Cursor");
+        UpcomingDividendResponse actual = RestAssured
+                .given()
+                .log().all()
+                .when().get("api/stocks/ex-dividend-dates/upcoming?sector=TECHNOLOGY&cursor=" + cursor + "&pageSize=1")
+                .then().log().all()
+                .statusCode(200)
+                .extract()
+                .as(new TypeRef<>() {
+                });
+
+        // then
+        assertAll(
+                () -> assertThat(actual.dividends()).hasSize(1),
+                () -> assertThat(actual.dividends().get(0).stockId()).isEqualTo(aapl.getId())
+        );
+    }
+
+    @Test
+    void 배당수익률이_오차_범위에서_같은_주식은_커서로_이어서_조회해도_티커_순으로_한_번씩만_조회한다() {
+        // given
+        Stock aapl = stockRepository.save(StockFixture.createStock(AAPL, Sector.TECHNOLOGY, 1.0));
+        Stock tsla = stockRepository.save(StockFixture.createStock(TSLA, Sector.TECHNOLOGY, 1.0));
+        Instant exDividendDate = LocalDate.of(InstantProvider.getLastYear(), 3, 1).atStartOfDay().toInstant(UTC);
+        dividendRepository.save(DividendFixture.createDividend(aapl.getId(), 0.1, exDividendDate));
+        dividendRepository.save(DividendFixture.createDividend(aapl.getId(), 0.2, exDividendDate.plusSeconds(86400)));
+        dividendRepository.save(DividendFixture.createDividend(tsla.getId(), 0.3, exDividendDate));
+
+        // when
+        ExtractableResponse<Response> first = RestAssured
+                .given()
+                .log().all()
+                .when().get("api/stocks/dividend-yields/highest?sector=TECHNOLOGY&pageNumber=1&pageSize=1")
+                .then().log().all()
+                .statusCode(200)
+                .extract();
+        ExtractableResponse<Response> second = RestAssured
+                .given()
+                .log().all()
+                .when().get("api/stocks/dividend-yields/highest?sector=TECHNOLOGY&cursor=" + first.header("X-Next-Cursor") + "&pageSize=1")
+                .then().log().all()
+                .statusCode(200)
+                .extract();
+
+        // then
+        StockDividendYieldResponse firstPage = first.as(new TypeRef<>() {
+        });
+        StockDividendYieldResponse secondPage = second.as(new TypeRef<>() {
+        });
+        assertAll(
+                () -> assertThat(firstPage.dividends()).extracting(SingleStockDividendYieldResponse::ticker).containsExactly(AAPL),
+                () -> assertThat(secondPage.dividends()).extracting(SingleStockDividendYieldResponse::ticker).containsExactly(TSLA),
+                () -> assertThat(firstPage.dividends().get(0).dividendYield()).isEqualTo(secondPage.dividends().get(0).dividendYield())
+        );
+    }
+
+    @Test
+    void 잘못된_커서로_조회하면_400_예외가_발생한다() {
+        // when, then
+        RestAssured
+                .given()
+                .log().all()
+                .when().get("api/stocks/dividend-yields/highest?sector=TECHNOLOGY&cursor=invalid&pageSize=20")
+                .then().log().all()
+                .statusCode(400)
+                .extract()
+                .as(ErrorResponse.class);
+    }
+
+    @Test
+    void 데이터_버전이_그대로면_종목_조회시_304_응답을_반환한다() {
+        // given
+        Stock aapl = stockRepository.save(StockFixture.createStock(AAPL, Sector.TECHNOLOGY, 2.0));
+        dataVersionRepository.save(new DataVersion(DataVersionType.STOCK, Instant.now()));
+        dataVersionRepository.save(new DataVersion(DataVersionType.DIVIDEND, Instant.now()));
+        dataVersionWatcher.refresh();
+
+        String etag = RestAssured
+                .given()
+                .log().all()
+                .when().get("api/stocks/" + aapl.getTicker())
+                .then().log().all()
+                .statusCode(200)
+                .extract()
+                .header("ETag");
+
+        // when, then
+        RestAssured
+                .given()
+                .log().all()
+                .header("If-None-Match", etag)
+                .when().get("api/stocks/" + aapl.getTicker())
+                .then().log().all()
+                .statusCode(304);
+    }
+
+    @Test
+    void 데이터_버전이_바뀌면_이전_ETag로_조회해도_200_응답을_반환한다() {
+        // given
+        Stock aapl = stockRepository.save(StockFixture.createStock(AAPL, Sector.TECHNOLOGY, 2.0));
+        dataVersionRepository.save(new DataVersion(DataVersionType.STOCK, Instant.now()));
+        dataVersionRepository.save(new DataVersion(DataVersionType.DIVIDEND, Instant.now()));
+        dataVersionWatcher.refresh();
+
+        String etag = RestAssured
+                .given()
+                .log().all()
+                .when().get("api/stocks/" + aapl.getTicker())
+                .then().log().all()
+                .statusCode(200)
+                .extract()
+                .header("ETag");
+
+        dataVersionCommandService.increase(DataVersionType.STOCK);
+        dataVersionWatcher.refresh();
+
+        // when, then
+        RestAssured
+                .given()
+                .log().all()
+                .header("If-None-Match", etag)
+                .when().get("api/stocks/" + aapl.getTicker())
+                .then().log().all()
+                .statusCode(200);
+    }
+}
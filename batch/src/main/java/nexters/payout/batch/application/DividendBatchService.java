@@ -5,14 +5,26 @@ import lombok.extern.slf4j.Slf4j;
 
 import nexters.payout.batch.application.client.FinancialClient;
 import nexters.payout.batch.application.client.FinancialClient.DividendData;
+import nexters.payout.batch.common.ChunkWriter;
+import nexters.payout.core.time.InstantProvider;
+import nexters.payout.domain.dataversion.application.DataVersionCommandService;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
 import nexters.payout.domain.dividend.domain.Dividend;
 import nexters.payout.domain.dividend.application.DividendCommandService;
+import nexters.payout.domain.stock.application.DividendYieldRankCommandService;
 import nexters.payout.domain.stock.domain.Stock;
 import nexters.payout.domain.stock.domain.repository.StockRepository;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToLongBiFunction;
 
 @Service
 @Slf4j
@@ -22,6 +34,9 @@ public class DividendBatchService {
     private final FinancialClient financialClient;
     private final DividendCommandService dividendCommandService;
     private final StockRepository stockRepository;
+    private final DataVersionCommandService dataVersionCommandService;
+    private final DividendYieldRankCommandService dividendYieldRankCommandService;
+    private final ChunkWriter chunkWriter;
 
     /**
      * UTC 시간대 기준으로 매주 월요일 새벽 4시에 작년 한해 동안의 배당금 정보를 갱신합니다.
@@ -29,7 +44,9 @@ public class DividendBatchService {
     @Scheduled(cron = "${schedules.cron.dividend.past}", zone = "UTC")
     public void updatePastDividendInfo() {
         log.info("update past dividend start..");
-        handleDividendData(financialClient.getPastDividendList());
+        handleDividendData(financialClient::consumePastDividends);
+        dividendYieldRankCommandService.refresh(InstantProvider.getLastYear());
+        dataVersionCommandService.increase(DataVersionType.DIVIDEND);
         log.info("update past dividend end..");
     }
 
@@ -40,29 +57,49 @@ public class DividendBatchService {
     public void updateUpcomingDividendInfo() {
         log.info("update upcoming dividend start..");
         dividendCommandService.deleteInvalidDividend();
-        handleDividendData(financialClient.getUpcomingDividendList());
+        handleDividendData(financialClient::consumeUpcomingDividends);
+        dataVersionCommandService.increase(DataVersionType.DIVIDEND);
         log.info("update upcoming dividend end..");
     }
 
-    private void saveOrUpdateDividendData(final Stock stock, final DividendData dividendData) {
-        try {
-            dividendCommandService.saveOrUpdate(
-                    stock.getId(),
-                    Dividend.create(
-                            stock.getId(), dividendData.dividend(), dividendData.exDividendDate(),
-                            dividendData.paymentDate(), dividendData.declarationDate()
-                    )
-            );
-        } catch (Exception e) {
-            log.error("fail to save(update) dividend: " + dividendData);
-            log.error(e.getMessage());
-        }
+    /**
+     * 배당금 정보를 청크 단위로 받아, 청크마다 티커를 한 번에 조회한 종목 ID로 바꾸고
+     * 배당락일을 UTC 자정으로 맞춰 (종목, 배당락일) 기준으로 일괄 저장합니다.
+     */
+    private void handleDividendData(ToLongBiFunction<Integer, Consumer<List<DividendData>>> dividendSource) {
+        long startedAt = System.nanoTime();
+        AtomicInteger matched = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        long fetched = dividendSource.applyAsLong(chunkWriter.chunkSize(), chunk -> {
+            List<Dividend> dividends = toDividends(chunk);
+            matched.addAndGet(dividends.size());
+            failed.addAndGet(chunkWriter.write(dividends, dividendCommandService::upsertAll));
+        });
+
+        long elapsedMillis = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+        log.info("upsert dividend: fetched={}, matched={}, failed={}, elapsed={}ms, rows/s={}",
+                fetched, matched.get(), failed.get(), elapsedMillis, matched.get() * 1000L / elapsedMillis);
     }
 
-    private void handleDividendData(List<DividendData> dividendResponses) {
+    private List<Dividend> toDividends(List<DividendData> dividendResponses) {
+        Map<String, UUID> stockIds = new HashMap<>();
+        List<String> tickers = dividendResponses.stream().map(DividendData::symbol).distinct().toList();
+        for (Stock stock : stockRepository.findAllByTickerIn(tickers)) {
+            stockIds.put(stock.getTicker(), stock.getId());
+        }
+
+        List<Dividend> dividends = new ArrayList<>(dividendResponses.size());
         for (DividendData dividendData : dividendResponses) {
-            stockRepository.findByTicker(dividendData.symbol())
-                    .ifPresent(stock -> saveOrUpdateDividendData(stock, dividendData));
+            UUID stockId = stockIds.get(dividendData.symbol());
+            if (stockId == null || dividendData.exDividendDate() == null) {
+                continue;
+            }
+            dividends.add(Dividend.create(
+                    stockId, dividendData.dividend(), InstantProvider.getStartOfDay(dividendData.exDividendDate()),
+                    dividendData.paymentDate(), dividendData.declarationDate()
+            ));
         }
+        return dividends;
     }
 }
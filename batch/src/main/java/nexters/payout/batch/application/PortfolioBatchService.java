@@ -23,12 +23,16 @@ public class PortfolioBatchService {
     @Scheduled(cron = "${schedules.cron.portfolio}", zone = "UTC")
     void deletePortfolio() {
         log.info("delete portfolio start..");
-        portfolioRepository.deleteAllByIdInQuery(getExpiredPortfolioIds());
+        Instant now = Instant.now();
+        portfolioRepository.deleteAllByIdInQuery(getExpiredPortfolioIds(now), now);
         log.info("delete portfolio end..");
     }
 
-    private List<UUID> getExpiredPortfolioIds() {
-        return portfolioRepository.findByExpireAtBefore(Instant.now())
+    /**
+     * 조회한 뒤 삭제하기 전에 재사용되어 만료일이 연장된 포트폴리오는 삭제하지 않도록 삭제 조건에도 만료 시각을 포함합니다.
+     */
+    private List<UUID> getExpiredPortfolioIds(final Instant now) {
+        return portfolioRepository.findByExpireAtBefore(now)
                 .stream()
                 .map(Portfolio::getId)
                 .toList();
@@ -4,13 +4,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nexters.payout.batch.application.client.FinancialClient;
 import nexters.payout.batch.application.client.FinancialClient.StockData;
-import nexters.payout.batch.application.client.StockLogo;
+import nexters.payout.batch.common.ChunkWriter;
+import nexters.payout.core.time.InstantProvider;
+import nexters.payout.domain.dataversion.application.DataVersionCommandService;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import nexters.payout.domain.stock.application.DividendYieldRankCommandService;
 import nexters.payout.domain.stock.application.StockCommandService;
+import nexters.payout.domain.stock.domain.Stock;
 import nexters.payout.domain.stock.domain.repository.StockRepository;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -19,29 +29,92 @@ public class StockBatchService {
 
     private final FinancialClient financialClient;
     private final StockCommandService stockCommandService;
-    private final StockLogo stockLogo;
     private final StockRepository stockRepository;
+    private final DataVersionCommandService dataVersionCommandService;
+    private final DividendYieldRankCommandService dividendYieldRankCommandService;
+    private final ChunkWriter chunkWriter;
+    private final StockLogoResolver stockLogoResolver;
 
     /**
      * UTC 시간대 기준 매일 자정에 모든 종목의 현재가와 거래량을 업데이트합니다.
+     * 종목 정보를 청크 단위로 받아, 청크마다 기존 종목을 한 번에 조회해 변경된 종목과 새 종목만 골라 일괄 저장합니다.
+     * 응답 수신 중 실패해도 이미 저장한 청크가 있으면 배당수익률 순위와 데이터 버전을 반영한 뒤 예외를 다시 던집니다.
+     * 새 종목의 로고는 현재가 갱신과 데이터 버전 반영이 끝난 뒤 채웁니다.
      */
     @Scheduled(cron = "${schedules.cron.stock}", zone = "UTC")
     void updateStock() {
         log.info("update stock start..");
-        List<StockData> stockList = financialClient.getLatestStockList();
+        long startedAt = System.nanoTime();
+        AtomicInteger changed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger written = new AtomicInteger();
+        boolean completed = false;
 
+        try {
+            long fetched = financialClient.consumeLatestStocks(chunkWriter.chunkSize(), chunk -> {
+                List<Stock> changedStocks = findChangedStocks(chunk);
+                int failedStocks = chunkWriter.write(changedStocks, stockCommandService::upsertAll);
+                changed.addAndGet(changedStocks.size());
+                failed.addAndGet(failedStocks);
+                written.addAndGet(changedStocks.size() - failedStocks);
+            });
+
+            long elapsedMillis = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+            log.info("update stock: fetched={}, changed={}, failed={}, elapsed={}ms, rows/s={}",
+                    fetched, changed.get(), failed.get(), elapsedMillis, changed.get() * 1000L / elapsedMillis);
+            completed = true;
+        } catch (RuntimeException e) {
+            log.error("fail to update stock: changed={}, written={}", changed.get(), written.get(), e);
+            throw e;
+        } finally {
+            if (completed || written.get() > 0) {
+                dividendYieldRankCommandService.refresh(InstantProvider.getLastYear());
+                dataVersionCommandService.increase(DataVersionType.STOCK);
+            }
+        }
+
+        backfillMissingLogos();
+        log.info("update stock end..");
+    }
+
+    /**
+     * 현재가, 거래량, 섹터 중 하나라도 바뀐 기존 종목과 새로 상장된 종목을 반환합니다.
+     */
+    private List<Stock> findChangedStocks(final List<StockData> stockList) {
+        Map<String, Stock> existing = new HashMap<>();
+        for (Stock stock : stockRepository.findAllByTickerIn(stockList.stream().map(StockData::ticker).toList())) {
+            existing.put(stock.getTicker(), stock);
+        }
+
+        List<Stock> changed = new ArrayList<>();
         for (StockData stockData : stockList) {
             try {
-                stockRepository.findByTicker(stockData.ticker()).ifPresentOrElse(
-                        existing -> stockCommandService.update(stockData.ticker(), stockData.toDomain()),
-                        () -> stockCommandService.create(stockData.toDomain(stockLogo.getLogoUrl(stockData.ticker())))
-                );
+                Stock stock = existing.get(stockData.ticker());
+                if (stock == null) {
+                    changed.add(stockData.toDomain());
+                } else if (isChanged(stock, stockData)) {
+                    changed.add(stockData.toDomain());
+                }
             } catch (Exception e) {
                 log.error("fail to save(update) stock: " + stockData);
                 log.error(e.getMessage());
             }
         }
+        return changed;
+    }
+
+    private void backfillMissingLogos() {
+        try {
+            stockLogoResolver.backfillMissingLogos();
+        } catch (Exception e) {
+            log.error("fail to backfill stock logo");
+            log.error(e.getMessage());
+        }
+    }
 
-        log.info("update stock end..");
+    private boolean isChanged(final Stock stock, final StockData stockData) {
+        return !Objects.equals(stock.getPrice(), stockData.price())
+                || !Objects.equals(stock.getVolume(), stockData.volume())
+                || stock.getSector() != stockData.sector();
     }
 }
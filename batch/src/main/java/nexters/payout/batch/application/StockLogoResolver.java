@@ -0,0 +1,111 @@
+package nexters.payout.batch.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nexters.payout.batch.application.client.StockLogo;
+import nexters.payout.batch.common.StockLogoProperties;
+import nexters.payout.domain.dataversion.application.DataVersionCommandService;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import nexters.payout.domain.stock.application.StockCommandService;
+import nexters.payout.domain.stock.domain.Stock;
+import nexters.payout.domain.stock.domain.StockLogoCache;
+import nexters.payout.domain.stock.domain.repository.StockLogoCacheRepository;
+import nexters.payout.domain.stock.domain.repository.StockRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class StockLogoResolver {
+
+    private final StockLogo stockLogo;
+    private final StockRepository stockRepository;
+    private final StockLogoCacheRepository stockLogoCacheRepository;
+    private final StockCommandService stockCommandService;
+    private final DataVersionCommandService dataVersionCommandService;
+    private final StockLogoProperties stockLogoProperties;
+
+    /**
+     * 로고가 없는 종목의 로고를 캐시에서 찾고, 캐시에 없거나 재시도 시각이 지난 티커만 최대 concurrency 개씩 동시에 조회해 채웁니다.
+     * 로고가 없는 티커는 retry-after 동안 다시 조회하지 않고, 조회에 실패한 티커는 캐시에 기록하지 않아 다음 실행에서 다시 조회합니다.
+     */
+    public void backfillMissingLogos() {
+        List<String> tickers = stockRepository.findAllByLogoUrlIsNull()
+                .stream()
+                .map(Stock::getTicker)
+                .toList();
+        if (tickers.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        Map<String, StockLogoCache> cached = new HashMap<>();
+        for (StockLogoCache stockLogoCache : stockLogoCacheRepository.findAllByTickerIn(tickers)) {
+            cached.put(stockLogoCache.getTicker(), stockLogoCache);
+        }
+
+        Map<String, String> logoUrls = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String ticker : tickers) {
+            StockLogoCache stockLogoCache = cached.get(ticker);
+            if (stockLogoCache == null || stockLogoCache.isRetryableAt(now)) {
+                missing.add(ticker);
+            } else if (stockLogoCache.hasLogo()) {
+                logoUrls.put(ticker, stockLogoCache.getLogoUrl());
+            }
+        }
+
+        List<StockLogoCache> fetched = Flux.fromIterable(missing)
+                .flatMap(ticker -> fetchLogoUrl(ticker)
+                        .map(logoUrl -> toCache(cached.get(ticker), ticker, logoUrl, now)), stockLogoProperties.getConcurrency())
+                .collectList()
+                .block();
+
+        stockLogoCacheRepository.saveAll(fetched);
+        fetched.stream()
+                .filter(StockLogoCache::hasLogo)
+                .forEach(stockLogoCache -> logoUrls.put(stockLogoCache.getTicker(), stockLogoCache.getLogoUrl()));
+
+        stockCommandService.updateLogoUrls(logoUrls);
+        if (!logoUrls.isEmpty()) {
+            dataVersionCommandService.increase(DataVersionType.STOCK);
+        }
+        log.info("backfill stock logo: missing={}, fetched={}, backfilled={}", tickers.size(), fetched.size(), logoUrls.size());
+    }
+
+    /**
+     * 로고 조회는 블로킹 호출이므로 boundedElastic 스케줄러에서 실행합니다.
+     * 로고가 없으면 빈 Optional을, 조회에 실패하면 캐시에 기록하지 않도록 아무 값도 내보내지 않습니다.
+     */
+    private Mono<Optional<String>> fetchLogoUrl(final String ticker) {
+        return Mono.fromCallable(() -> Optional.ofNullable(stockLogo.getLogoUrl(ticker)).filter(logoUrl -> !logoUrl.isBlank()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.error("fail to fetch stock logo: {}", ticker);
+                    log.error(e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private StockLogoCache toCache(final StockLogoCache stockLogoCache, final String ticker,
+                                   final Optional<String> logoUrl, final Instant now) {
+        Instant retryAfter = now.plus(stockLogoProperties.getRetryAfter());
+        if (stockLogoCache == null) {
+            return logoUrl.map(url -> StockLogoCache.found(ticker, url))
+                    .orElseGet(() -> StockLogoCache.notFound(ticker, retryAfter));
+        }
+
+        logoUrl.ifPresentOrElse(stockLogoCache::found, () -> stockLogoCache.notFound(retryAfter));
+        return stockLogoCache;
+    }
+}
@@ -5,6 +5,7 @@ import nexters.payout.domain.stock.domain.Stock;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface FinancialClient {
 
@@ -14,6 +15,29 @@ public interface FinancialClient {
 
     List<DividendData> getUpcomingDividendList();
 
+    /**
+     * 최신 종목 정보를 chunkSize 개씩 나누어 consumer에 넘기고, 넘긴 종목 수를 반환합니다.
+     * 응답을 스트리밍으로 처리하지 않는 구현은 전체 목록을 조회한 뒤 나눕니다.
+     */
+    default long consumeLatestStocks(int chunkSize, Consumer<List<StockData>> consumer) {
+        return consumeInChunks(getLatestStockList(), chunkSize, consumer);
+    }
+
+    default long consumePastDividends(int chunkSize, Consumer<List<DividendData>> consumer) {
+        return consumeInChunks(getPastDividendList(), chunkSize, consumer);
+    }
+
+    default long consumeUpcomingDividends(int chunkSize, Consumer<List<DividendData>> consumer) {
+        return consumeInChunks(getUpcomingDividendList(), chunkSize, consumer);
+    }
+
+    private static <T> long consumeInChunks(List<T> items, int chunkSize, Consumer<List<T>> consumer) {
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            consumer.accept(items.subList(from, Math.min(from + chunkSize, items.size())));
+        }
+        return items.size();
+    }
+
     record StockData(
             String ticker,
             String name,
@@ -27,10 +51,6 @@ public interface FinancialClient {
         public Stock toDomain() {
             return new Stock(ticker, name, sector, exchange, industry, price, volume, null);
         }
-
-        public Stock toDomain(String logoUrl) {
-            return new Stock(ticker, name, sector, exchange, industry, price, volume, logoUrl);
-        }
     }
 
     record DividendData(
@@ -0,0 +1,12 @@
+package nexters.payout.batch.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("batch.upsert")
+@RequiredArgsConstructor
+@Getter
+public class BatchUpsertProperties {
+    final int chunkSize;
+}
@@ -0,0 +1,57 @@
+package nexters.payout.batch.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 항목을 batch.upsert.chunk-size 단위로 나누어 저장합니다.
+ * 청크 저장에 실패하면 같은 청크의 다른 항목까지 누락되지 않도록 항목별로 다시 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkWriter {
+
+    private final BatchUpsertProperties batchUpsertProperties;
+
+    public int chunkSize() {
+        return batchUpsertProperties.getChunkSize();
+    }
+
+    /**
+     * 끝내 저장하지 못한 항목 수를 반환합니다.
+     */
+    public <T> int write(final List<T> items, final Consumer<List<T>> writer) {
+        int failed = 0;
+        for (int from = 0; from < items.size(); from += batchUpsertProperties.getChunkSize()) {
+            failed += writeChunk(items.subList(from, Math.min(from + batchUpsertProperties.getChunkSize(), items.size())), writer);
+        }
+        return failed;
+    }
+
+    private <T> int writeChunk(final List<T> chunk, final Consumer<List<T>> writer) {
+        try {
+            writer.accept(chunk);
+            return 0;
+        } catch (Exception e) {
+            log.error("fail to write chunk [{}..{}], retrying one by one: {}",
+                    chunk.get(0), chunk.get(chunk.size() - 1), e.getMessage());
+        }
+
+        int failed = 0;
+        for (T item : chunk) {
+            try {
+                writer.accept(List.of(item));
+            } catch (Exception e) {
+                failed++;
+                log.error("fail to write: " + item);
+                log.error(e.getMessage());
+            }
+        }
+        return failed;
+    }
+}
@@ -0,0 +1,33 @@
+package nexters.payout.batch.common;
+
+import lombok.extern.slf4j.Slf4j;
+import nexters.payout.domain.common.query.QueryCounter;
+import nexters.payout.domain.common.query.QueryStatistics;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 작업(@Scheduled 메서드)마다 실행된 JDBC 구문 수와 총 실행 시간을 로그로 남깁니다.
+ * QueryCounter는 스레드 단위로 집계하므로 스케줄러 스레드에서 실행된 구문만 포함됩니다.
+ * 외부 API 응답은 Reactor 스레드에서 받더라도 저장은 스케줄러 스레드에서 하도록 유지해야 집계가 맞습니다.
+ */
+@Aspect
+@Component
+@Slf4j
+public class QueryCountAspect {
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object count(final ProceedingJoinPoint joinPoint) throws Throwable {
+        String job = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+
+        QueryCounter.start();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            QueryStatistics statistics = QueryCounter.stop();
+            log.info("{} executed {} statements in {}ms", job, statistics.getCount(), statistics.getElapsedMillis());
+        }
+    }
+}
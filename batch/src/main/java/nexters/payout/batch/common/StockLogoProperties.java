@@ -0,0 +1,15 @@
+package nexters.payout.batch.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("batch.logo")
+@RequiredArgsConstructor
+@Getter
+public class StockLogoProperties {
+    final int concurrency;
+    final Duration retryAfter;
+}
@@ -6,21 +6,32 @@ import nexters.payout.core.time.DateFormat;
 import nexters.payout.core.time.InstantProvider;
 import nexters.payout.domain.stock.domain.Exchange;
 import nexters.payout.domain.stock.domain.Sector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.time.ZoneOffset.UTC;
 import static nexters.payout.domain.stock.domain.Sector.ETC;
 import static nexters.payout.domain.stock.domain.Sector.ETF;
 
+/**
+ * FMP 응답 배열은 Jackson 디코더가 DataBuffer 단위로 받은 만큼 원소를 하나씩 파싱해 Flux로 내보냅니다.
+ * 응답 전체를 모으지 않고 원소 단위로 가공해 청크로 넘기므로, 배치 힙 사용량이 시장 규모와 무관하게 일정합니다.
+ */
 @Slf4j
 @Service
 public class FmpFinancialClient implements FinancialClient {
@@ -29,52 +40,140 @@ public class FmpFinancialClient implements FinancialClient {
     private final FmpProperties fmpProperties;
     private final static int MAX_LIMIT = 1000000;
 
+    @Autowired
     FmpFinancialClient(final FmpProperties fmpProperties) {
+        this(fmpProperties, WebClient.builder());
+    }
+
+    /**
+     * 녹화한 응답으로 측정할 수 있도록 WebClient 설정을 주입받습니다.
+     */
+    public FmpFinancialClient(final FmpProperties fmpProperties, final WebClient.Builder webClientBuilder) {
         this.fmpProperties = fmpProperties;
-        this.fmpWebClient = WebClient.builder()
+        this.fmpWebClient = webClientBuilder
                 .baseUrl(fmpProperties.getBaseUrl())
                 .build();
     }
 
     @Override
     public List<StockData> getLatestStockList() {
-        Map<String, FmpStockData> stockDataMap = Stream.concat(
-                        Sector.getNames()
-                                .stream()
-                                .filter(sector -> !(sector.equals(ETC.getName()) || sector.equals(ETF.getName())))
-                                .flatMap(this::fetchStockList)
-                        , fetchEtfStockList())
-                .collect(Collectors.toMap(FmpStockData::getSymbol, Function.identity(), (first, second) -> first));
-
-        Map<String, FmpVolumeData> volumeDataMap = Arrays
-                .stream(Exchange.values())
-                .flatMap(exchange -> fetchVolumeList(exchange).stream())
-                .collect(Collectors.toMap(FmpVolumeData::symbol, fmpVolumeData -> fmpVolumeData));
-
-        return stockDataMap.entrySet()
-                .stream()
-                .map(entry -> {
-                    String tickerName = entry.getKey();
-                    FmpStockData fmpStockData = entry.getValue();
-                    FmpVolumeData fmpVolumeData = volumeDataMap
-                            .getOrDefault(tickerName, new FmpVolumeData(tickerName, null, null));
-
-                    return new StockData(
-                            tickerName,
-                            fmpStockData.getCompanyName(),
-                            fmpStockData.getExchangeShortName(),
-                            Sector.fromName(fmpStockData.getSector()),
-                            fmpStockData.getIndustry(),
-                            fmpStockData.getPrice(),
-                            fmpVolumeData.volume(),
-                            fmpVolumeData.avgVolume()
-                    );
-                })
-                .toList();
-    }
-
-    private Stream<FmpStockData> fetchStockList(final String sector) {
-        return fmpWebClient.get()
+        return streamLatestStocks().collectList().block();
+    }
+
+    @Override
+    public long consumeLatestStocks(final int chunkSize, final Consumer<List<StockData>> consumer) {
+        return consume(streamLatestStocks(), chunkSize, consumer);
+    }
+
+    @Override
+    public List<DividendData> getPastDividendList() {
+        return streamPastDividends().collectList().block();
+    }
+
+    @Override
+    public long consumePastDividends(final int chunkSize, final Consumer<List<DividendData>> consumer) {
+        return consume(streamPastDividends(), chunkSize, consumer);
+    }
+
+    @Override
+    public List<DividendData> getUpcomingDividendList() {
+        return streamUpcomingDividends().collectList().block();
+    }
+
+    @Override
+    public long consumeUpcomingDividends(final int chunkSize, final Consumer<List<DividendData>> consumer) {
+        return consume(streamUpcomingDividends(), chunkSize, consumer);
+    }
+
+    /**
+     * 응답을 chunkSize 개씩 묶어 호출한 스레드에서 consumer에 넘깁니다.
+     * consumer가 청크를 처리하는 동안에는 다음 원소를 요청하지 않으므로 응답 수신도 함께 멈춥니다.
+     */
+    private <T> long consume(final Flux<T> elements, final int chunkSize, final Consumer<List<T>> consumer) {
+        long count = 0;
+        for (List<T> chunk : elements.buffer(chunkSize).toIterable(1)) {
+            consumer.accept(chunk);
+            count += chunk.size();
+        }
+        return count;
+    }
+
+    /**
+     * 거래소별 거래량 목록으로 티커별 거래량 맵을 만든 뒤, 스크리너 응답은 원소 단위로 거래량과 합쳐 내보냅니다.
+     * 이미 내보낸 티커만 기억하므로 같은 티커가 여러 목록에 있으면 섹터 목록의 정보를 ETF 목록보다 우선합니다.
+     * 섹터별 스크리너와 거래소별 거래량 목록은 최대 concurrency 개씩 동시에 요청하되, 스크리너 응답은 섹터 순서대로 내보내
+     * 여러 섹터에 있는 티커도 실행할 때마다 같은 섹터로 저장됩니다.
+     */
+    private Flux<StockData> streamLatestStocks() {
+        return fetchVolumes().flatMapMany(volumes -> {
+            Set<String> symbols = new HashSet<>();
+            return Flux.concat(
+                            Flux.fromIterable(Sector.getNames())
+                                    .filter(sector -> !(sector.equals(ETC.getName()) || sector.equals(ETF.getName())))
+                                    .flatMapSequential(this::fetchStockList, fmpProperties.getConcurrency()),
+                            fetchEtfStockList())
+                    .filter(fmpStockData -> symbols.add(fmpStockData.getSymbol()))
+                    .map(fmpStockData -> toStockData(fmpStockData, volumes.get(fmpStockData.getSymbol())));
+        });
+    }
+
+    private Mono<Map<String, FmpVolumeData>> fetchVolumes() {
+        return Flux.fromArray(Exchange.values())
+                .flatMap(this::fetchVolumeList, fmpProperties.getConcurrency())
+                .collect(HashMap::new, (map, fmpVolumeData) -> map.put(fmpVolumeData.symbol(), fmpVolumeData));
+    }
+
+    private StockData toStockData(final FmpStockData fmpStockData, final FmpVolumeData fmpVolumeData) {
+        return new StockData(
+                fmpStockData.getSymbol(),
+                fmpStockData.getCompanyName(),
+                fmpStockData.getExchangeShortName(),
+                Sector.fromName(fmpStockData.getSector()),
+                fmpStockData.getIndustry(),
+                fmpStockData.getPrice(),
+                fmpVolumeData == null ? null : fmpVolumeData.volume(),
+                fmpVolumeData == null ? null : fmpVolumeData.avgVolume()
+        );
+    }
+
+    /**
+     * 요청을 보낸 뒤 timeout 안에 응답 헤더를 받지 못하면 실패로 보고, 시간 초과, 연결 오류, 5xx, 429 응답은 지수 백오프로 재시도합니다.
+     * 본문은 consumer가 청크를 저장하는 동안 수신이 멈추므로 원소 사이 간격 대신 전체 수신 시간을 제한해, 헤더를 받은 뒤 body-timeout 안에 본문을 모두 받지 못하면 실패로 봅니다.
+     * body-timeout에는 청크 저장 시간도 포함되므로 전체 응답을 저장하는 시간보다 넉넉하게 설정합니다.
+     * 재시도하면 응답을 처음부터 다시 받으므로, 이미 내보낸 종목은 티커로 걸러지고 배당금은 upsert로 덮어씁니다.
+     */
+    private <T> Flux<T> withResilience(final Mono<ResponseEntity<Flux<T>>> response, final String request) {
+        return response
+                .timeout(fmpProperties.getTimeout())
+                .flatMapMany(entity -> entity.getBody() == null ? Flux.<T>empty() : entity.getBody().takeUntilOther(bodyDeadline(request)))
+                .retryWhen(Retry.backoff(fmpProperties.getMaxRetries(), fmpProperties.getRetryBackoff())
+                        .filter(this::isRetryable)
+                        .doBeforeRetry(signal -> log.warn("FmpClient {} 재시도 ({}회): {}",
+                                request, signal.totalRetries() + 1, signal.failure().getMessage()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private Mono<Void> bodyDeadline(final String request) {
+        return Mono.delay(fmpProperties.getBodyTimeout())
+                .then(Mono.error(() -> new TimeoutException(
+                        "FmpClient " + request + " 본문을 " + fmpProperties.getBodyTimeout() + " 안에 모두 받지 못했습니다.")));
+    }
+
+    /**
+     * 시간 초과, 연결 오류, 응답 수신 중 끊긴 경우와 5xx, 429 응답만 재시도합니다.
+     * 그 밖의 4xx, 디코딩 오류, 응답 가공 중 발생한 예외는 다시 요청해도 같으므로 재시도하지 않습니다.
+     */
+    private boolean isRetryable(final Throwable throwable) {
+        if (throwable instanceof WebClientResponseException exception) {
+            return exception.getStatusCode().is5xxServerError()
+                    || exception.getStatusCode().value() == 429
+                    || exception.getCause() instanceof IOException;
+        }
+        return throwable instanceof TimeoutException || throwable instanceof WebClientRequestException;
+    }
+
+    private Flux<FmpStockData> fetchStockList(final String sector) {
+        return withResilience(fmpWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(fmpProperties.getStockScreenerPath())
                         .queryParam("apikey", fmpProperties.getApiKey())
@@ -83,92 +182,63 @@ public class FmpFinancialClient implements FinancialClient {
                         .queryParam("limit", MAX_LIMIT)
                         .build())
                 .retrieve()
-                .bodyToFlux(FmpStockData.class)
-                .collectList()
-                .block()
-                .stream();
+                .toEntityFlux(FmpStockData.class), "stock screener(" + sector + ")");
     }
 
-    private Stream<FmpStockData> fetchEtfStockList() {
-        return fmpWebClient.get()
+    private Flux<FmpStockData> fetchEtfStockList() {
+        return withResilience(fmpWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(fmpProperties.getStockScreenerPath())
                         .queryParam("apikey", fmpProperties.getApiKey())
                         .queryParam("isEtf", true)
                         .build())
                 .retrieve()
-                .bodyToFlux(FmpStockData.class)
+                .toEntityFlux(FmpStockData.class), "etf screener")
                 .map(fmpStockData -> {
                     fmpStockData.setSector(ETF.getName());
                     return fmpStockData;
-                })
-                .collectList()
-                .block()
-                .stream();
+                });
     }
 
-    private List<FmpVolumeData> fetchVolumeList(final Exchange exchange) {
-        return fmpWebClient.get()
+    private Flux<FmpVolumeData> fetchVolumeList(final Exchange exchange) {
+        return withResilience(fmpWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(fmpProperties.getExchangeSymbolsStockListPath() + exchange.name())
                         .queryParam("apikey", fmpProperties.getApiKey())
                         .build())
                 .retrieve()
-                .bodyToFlux(FmpVolumeData.class)
-                .collectList()
-                .block();
+                .toEntityFlux(FmpVolumeData.class), "symbol list(" + exchange.name() + ")");
     }
 
-    @Override
-    public List<DividendData> getPastDividendList() {
-
-        // 현재 시간을 기준으로 작년 1월 ~ 12월의 배당금 데이터를 조회
-        List<DividendData> result = new ArrayList<>();
-        for (int month = 12; month >= 3; month -= 3) {
-
-            Instant date = LocalDate.of(
-                            InstantProvider.getLastYear(),
-                            month,
-                            1)
-                    .atStartOfDay()
-                    .toInstant(UTC);
-
-            List<DividendData> dividendResponses = fetchDividendList(date)
-                    .stream()
-                    .map(FmpDividendData::toDividendData)
-                    .toList();
-
-            if (dividendResponses.isEmpty()) {
-                log.error("FmpClient updateDividendData 수행 중 에러 발생: dividendResponses is empty");
-                continue;
-            }
-
-            result.addAll(dividendResponses);
-        }
-
-        return result;
+    /**
+     * 현재 시간을 기준으로 작년 1월 ~ 12월의 배당금 데이터를 분기별로 동시에 조회합니다.
+     */
+    private Flux<DividendData> streamPastDividends() {
+        return Flux.fromStream(Stream.iterate(12, month -> month >= 3, month -> month - 3))
+                .map(month -> LocalDate.of(InstantProvider.getLastYear(), month, 1)
+                        .atStartOfDay()
+                        .toInstant(UTC))
+                .flatMap(date -> logIfEmpty(fetchDividendList(date)), fmpProperties.getConcurrency())
+                .map(FmpDividendData::toDividendData);
     }
 
-    @Override
-    public List<DividendData> getUpcomingDividendList() {
-
-        List<DividendData> dividendResponse = fetchDividendList(
+    private Flux<DividendData> streamUpcomingDividends() {
+        return logIfEmpty(fetchDividendList(
                 LocalDate.now().atStartOfDay().toInstant(UTC),
                 LocalDate.now().plusMonths(3).atStartOfDay().toInstant(UTC)
-        )
-                .stream()
-                .map(FmpDividendData::toDividendData)
-                .toList();
+        ))
+                .map(FmpDividendData::toDividendData);
+    }
 
-        if (dividendResponse.isEmpty()) {
+    private Flux<FmpDividendData> logIfEmpty(final Flux<FmpDividendData> dividendResponses) {
+        return dividendResponses.switchIfEmpty(Flux.defer(() -> {
             log.error("FmpClient updateDividendData 수행 중 에러 발생: dividendResponses is empty");
-        }
-
-        return dividendResponse;
+            return Flux.empty();
+        }));
     }
 
-    private List<FmpDividendData> fetchDividendList(Instant date) {
-        return fmpWebClient.get()
+    private Flux<FmpDividendData> fetchDividendList(Instant date) {
+        return withResilience(fmpWebClient.get()
                 .uri(uriBuilder ->
                         uriBuilder
                                 .path(fmpProperties.getStockDividendCalenderPath())
@@ -176,17 +246,15 @@ public class FmpFinancialClient implements FinancialClient {
                                 .queryParam("apikey", fmpProperties.getApiKey())
                                 .build())
                 .retrieve()
-                .bodyToFlux(FmpDividendData.class)
+                .toEntityFlux(FmpDividendData.class), "dividend calendar")
                 .onErrorResume(throwable -> {
                     log.error("FmpClient updateDividendData 수행 중 에러 발생: {}", throwable.getMessage());
-                    return Mono.empty();
-                })
-                .collectList()
-                .block();
+                    return Flux.empty();
+                });
     }
 
-    private List<FmpDividendData> fetchDividendList(Instant from, Instant to) {
-        return fmpWebClient.get()
+    private Flux<FmpDividendData> fetchDividendList(Instant from, Instant to) {
+        return withResilience(fmpWebClient.get()
                 .uri(uriBuilder ->
                         uriBuilder
                                 .path(fmpProperties.getStockDividendCalenderPath())
@@ -195,12 +263,10 @@ public class FmpFinancialClient implements FinancialClient {
                                 .queryParam("apikey", fmpProperties.getApiKey())
                                 .build())
                 .retrieve()
-                .bodyToFlux(FmpDividendData.class)
+                .toEntityFlux(FmpDividendData.class), "dividend calendar")
                 .onErrorResume(throwable -> {
                     log.error("FmpClient updateDividendData 수행 중 에러 발생: {}", throwable.getMessage());
-                    return Mono.empty();
-                })
-                .collectList()
-                .block();
+                    return Flux.empty();
+                });
     }
 }
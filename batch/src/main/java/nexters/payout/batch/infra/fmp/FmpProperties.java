@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties("financial.fmp")
 @RequiredArgsConstructor
 @Getter
@@ -14,4 +16,9 @@ public class FmpProperties {
     final String stockScreenerPath;
     final String exchangeSymbolsStockListPath;
     final String stockDividendCalenderPath;
+    final int concurrency;
+    final Duration timeout;
+    final Duration bodyTimeout;
+    final int maxRetries;
+    final Duration retryBackoff;
 }
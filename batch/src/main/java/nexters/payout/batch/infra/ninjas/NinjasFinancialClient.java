@@ -2,9 +2,12 @@ package nexters.payout.batch.infra.ninjas;
 
 import lombok.extern.slf4j.Slf4j;
 import nexters.payout.batch.application.client.StockLogo;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.Optional;
+
 @Service
 @Slf4j
 public class NinjasFinancialClient implements StockLogo {
@@ -12,20 +15,30 @@ public class NinjasFinancialClient implements StockLogo {
     private final WebClient ninjasWebClient;
     private final NinjasProperties ninjasProperties;
 
+    @Autowired
     NinjasFinancialClient(final NinjasProperties ninjasProperties) {
+        this(ninjasProperties, WebClient.builder());
+    }
+
+    NinjasFinancialClient(final NinjasProperties ninjasProperties, final WebClient.Builder webClientBuilder) {
         this.ninjasProperties = ninjasProperties;
-        this.ninjasWebClient = WebClient.builder()
+        this.ninjasWebClient = webClientBuilder
                 .baseUrl(ninjasProperties.getBaseUrl())
                 .defaultHeader("X-Api-Key", ninjasProperties.getApiKey())
                 .build();
     }
 
+    /**
+     * 로고가 없는 티커는 null을 반환하고, 요청이 실패하거나 timeout 안에 응답을 받지 못하면 예외를 그대로 던져 호출한 쪽에서 로고 없음과 구분할 수 있게 합니다.
+     */
     @Override
     public String getLogoUrl(String ticker) {
-        return fetchLogoUrl(ticker).image();
+        return fetchLogoUrl(ticker)
+                .map(NinjasStockLogo::image)
+                .orElse(null);
     }
 
-    private NinjasStockLogo fetchLogoUrl(String ticker) {
+    private Optional<NinjasStockLogo> fetchLogoUrl(String ticker) {
         return ninjasWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(ninjasProperties.getLogoPath())
@@ -34,9 +47,8 @@ public class NinjasFinancialClient implements StockLogo {
                 .retrieve()
                 .bodyToFlux(NinjasStockLogo.class)
                 .next()
+                .timeout(ninjasProperties.getTimeout())
                 .doOnError(e -> log.error("fetchLogoUrl 호출 실패: {}", e.getMessage()))
-                .onErrorReturn(new NinjasStockLogo(ticker, ticker, null))
-                .blockOptional()
-                .orElse(new NinjasStockLogo(ticker, ticker, null));
+                .blockOptional();
     }
 }
@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties("financial.ninjas")
 @RequiredArgsConstructor
 @Getter
@@ -11,4 +13,5 @@ public class NinjasProperties {
     final String apiKey;
     final String baseUrl;
     final String logoPath;
+    final Duration timeout;
 }
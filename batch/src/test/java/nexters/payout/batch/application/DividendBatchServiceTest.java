@@ -122,6 +122,36 @@ class DividendBatchServiceTest extends AbstractBatchServiceTest {
         );
     }
 
+    @Test
+    void 같은_과거_배당금_정보로_다시_실행해도_중복으로_저장되지_않는다() {
+
+        // given
+        Stock stock = stockRepository.save(StockFixture.createStock(AAPL, 12.51, 120000));
+
+        List<FinancialClient.DividendData> responses = new ArrayList<>();
+        responses.add(new FinancialClient.DividendData(
+                Instant.parse("2023-12-21T00:00:00Z"),
+                "May 31, 23",
+                12.21,
+                AAPL,
+                12.21,
+                Instant.parse("2023-12-21T00:00:00Z"),
+                Instant.parse("2023-12-23T00:00:00Z"),
+                Instant.parse("2023-12-22T00:00:00Z")));
+
+        given(financialClient.getPastDividendList()).willReturn(responses);
+        dividendBatchService.updatePastDividendInfo();
+
+        // when
+        dividendBatchService.updatePastDividendInfo();
+
+        // then
+        assertAll(
+                () -> assertThat(dividendRepository.findAllByStockId(stock.getId())).hasSize(1),
+                () -> assertThat(dividendRepository.count()).isEqualTo(1)
+        );
+    }
+
     @Test
     void 미래_배당금_정보를_생성할때_어제_삽입된_미래_배당금_정보는_제거된다() {
         // given
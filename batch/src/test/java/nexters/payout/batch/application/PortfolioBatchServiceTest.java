@@ -29,7 +29,7 @@ class PortfolioBatchServiceTest extends AbstractBatchServiceTest {
         ));
         Portfolio notExpiredPortfolio = portfolioRepository.save(PortfolioFixture.createPortfolio(
                 Instant.now().plus(1, ChronoUnit.DAYS),
-                List.of(new PortfolioStock(STOCK_ID, 1))
+                List.of(new PortfolioStock(STOCK_ID, 3))
         ));
 
         // when
@@ -39,7 +39,8 @@ class PortfolioBatchServiceTest extends AbstractBatchServiceTest {
         List<Portfolio> actual = portfolioRepository.findAll();
         assertAll(
                 () -> assertThat(actual).hasSize(1),
-                () -> assertThat(actual.get(0)).isEqualTo(notExpiredPortfolio)
+                () -> assertThat(actual.get(0)).isEqualTo(notExpiredPortfolio),
+                () -> assertThat(actual.get(0).getContentHash()).isEqualTo(notExpiredPortfolio.getContentHash())
         );
     }
 }
\ No newline at end of file
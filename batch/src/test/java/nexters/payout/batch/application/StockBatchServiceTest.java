@@ -2,16 +2,29 @@ package nexters.payout.batch.application;
 
 import nexters.payout.batch.application.client.FinancialClient;
 import nexters.payout.batch.common.AbstractBatchServiceTest;
+import nexters.payout.core.time.InstantProvider;
+import nexters.payout.domain.DividendFixture;
 import nexters.payout.domain.StockFixture;
+import nexters.payout.domain.dataversion.domain.DataVersion;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import nexters.payout.domain.stock.domain.DividendYieldRank;
 import nexters.payout.domain.stock.domain.Stock;
+import nexters.payout.domain.stock.domain.StockLogoCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 @DisplayName("주식 스케쥴러 서비스 테스트")
 class StockBatchServiceTest extends AbstractBatchServiceTest {
@@ -33,4 +46,118 @@ class StockBatchServiceTest extends AbstractBatchServiceTest {
                 () -> assertThat(actual.getVolume()).isEqualTo(stockData.volume())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void 새로운_종목은_로고와_함께_여러_청크로_나누어_추가한다() {
+        // given
+        Stock stock = stockRepository.save(StockFixture.createStock(StockFixture.TSLA, 10.0, 1234));
+        List<FinancialClient.StockData> stockData = List.of(
+                LatestStockFixture.createStockData(stock.getTicker(), 30.0, 4321),
+                LatestStockFixture.createStockData(StockFixture.AAPL, 100.0, 1000),
+                LatestStockFixture.createStockData(StockFixture.SBUX, 50.0, 500)
+        );
+        given(financialClient.getLatestStockList()).willReturn(stockData);
+        given(stockLogo.getLogoUrl(any())).willReturn("https://logo.example.com");
+
+        // when
+        stockBatchService.updateStock();
+
+        // then
+        Stock actual = stockRepository.findByTicker(StockFixture.AAPL).get();
+        assertAll(
+                () -> assertThat(stockRepository.count()).isEqualTo(3),
+                () -> assertThat(actual.getPrice()).isEqualTo(100.0),
+                () -> assertThat(actual.getLogoUrl()).isEqualTo("https://logo.example.com"),
+                () -> assertThat(stockRepository.findByTicker(stock.getTicker()).get().getId()).isEqualTo(stock.getId())
+        );
+    }
+
+    @Test
+    void 로고가_없는_종목은_재시도_시각_전까지_다시_조회하지_않는다() {
+        // given
+        FinancialClient.StockData stockData = LatestStockFixture.createStockData(StockFixture.AAPL, 100.0, 1000);
+        given(financialClient.getLatestStockList()).willReturn(List.of(stockData));
+        given(stockLogo.getLogoUrl(any())).willReturn(null);
+
+        // when
+        stockBatchService.updateStock();
+        stockBatchService.updateStock();
+
+        // then
+        StockLogoCache actual = stockLogoCacheRepository.findAllByTickerIn(List.of(StockFixture.AAPL)).get(0);
+        assertAll(
+                () -> then(stockLogo).should(times(1)).getLogoUrl(StockFixture.AAPL),
+                () -> assertThat(actual.getLogoUrl()).isNull(),
+                () -> assertThat(actual.getRetryAfter()).isAfter(Instant.now())
+        );
+    }
+
+    @Test
+    void 로고_조회에_실패한_종목은_캐시에_기록하지_않고_다음_실행에서_다시_조회한다() {
+        // given
+        FinancialClient.StockData stockData = LatestStockFixture.createStockData(StockFixture.AAPL, 100.0, 1000);
+        given(financialClient.getLatestStockList()).willReturn(List.of(stockData));
+        given(stockLogo.getLogoUrl(any()))
+                .willThrow(new IllegalStateException("connection refused"))
+                .willReturn("https://logo.example.com");
+
+        // when
+        stockBatchService.updateStock();
+        List<StockLogoCache> afterFailure = stockLogoCacheRepository.findAllByTickerIn(List.of(StockFixture.AAPL));
+        stockBatchService.updateStock();
+
+        // then
+        assertAll(
+                () -> assertThat(afterFailure).isEmpty(),
+                () -> then(stockLogo).should(times(2)).getLogoUrl(StockFixture.AAPL),
+                () -> assertThat(stockRepository.findByTicker(StockFixture.AAPL).get().getLogoUrl()).isEqualTo("https://logo.example.com")
+        );
+    }
+
+    @Test
+    void 배당수익률_순위를_다시_계산하면_기존_순위를_덮어쓰고_빠진_순위는_삭제한다() {
+        // given
+        Instant exDividendDate = InstantProvider.getStartOfYear(InstantProvider.getLastYear());
+        Stock aapl = stockRepository.save(StockFixture.createStock(StockFixture.AAPL, 10.0, 1234));
+        Stock tsla = stockRepository.save(StockFixture.createStock(StockFixture.TSLA, 10.0, 1234));
+        dividendRepository.save(DividendFixture.createDividend(aapl.getId(), 1.0, exDividendDate));
+        dividendRepository.save(DividendFixture.createDividend(tsla.getId(), 2.0, exDividendDate));
+        given(financialClient.getLatestStockList()).willReturn(List.of());
+        stockBatchService.updateStock();
+
+        dividendRepository.deleteAll();
+        dividendRepository.save(DividendFixture.createDividend(aapl.getId(), 1.0, exDividendDate));
+
+        // when
+        stockBatchService.updateStock();
+
+        // then
+        List<DividendYieldRank> actual = dividendYieldRankRepository.findAll();
+        assertAll(
+                () -> assertThat(actual).hasSize(1),
+                () -> assertThat(actual.get(0).getRanking()).isEqualTo(1),
+                () -> assertThat(actual.get(0).getStockId()).isEqualTo(aapl.getId()),
+                () -> assertThat(actual.get(0).getDividendYield()).isEqualTo(0.1)
+        );
+    }
+
+    @Test
+    void 종목_정보를_받는_중에_실패해도_저장한_청크는_데이터_버전에_반영하고_예외를_던진다() {
+        // given
+        long before = dataVersionRepository.findById(DataVersionType.STOCK).map(DataVersion::getVersion).orElse(0L);
+        given(financialClient.consumeLatestStocks(anyInt(), any())).willAnswer(invocation -> {
+            Consumer<List<FinancialClient.StockData>> consumer = invocation.getArgument(1);
+            consumer.accept(List.of(LatestStockFixture.createStockData(StockFixture.AAPL, 100.0, 1000)));
+            throw new IllegalStateException("connection reset");
+        });
+
+        // when, then
+        assertThatThrownBy(() -> stockBatchService.updateStock())
+                .isInstanceOf(IllegalStateException.class);
+        assertAll(
+                () -> assertThat(stockRepository.findByTicker(StockFixture.AAPL)).isPresent(),
+                () -> assertThat(dataVersionRepository.findById(DataVersionType.STOCK).get().getVersion()).isEqualTo(before + 1),
+                () -> then(stockLogo).shouldHaveNoInteractions()
+        );
+    }
+}
@@ -3,11 +3,16 @@ package nexters.payout.batch.common;
 import nexters.payout.batch.application.DividendBatchService;
 import nexters.payout.batch.application.PortfolioBatchService;
 import nexters.payout.batch.application.client.FinancialClient;
+import nexters.payout.batch.application.client.StockLogo;
 import nexters.payout.batch.application.StockBatchService;
+import nexters.payout.domain.dataversion.domain.repository.DataVersionRepository;
 import nexters.payout.domain.dividend.domain.repository.DividendRepository;
 import nexters.payout.domain.portfolio.domain.repository.PortfolioRepository;
+import nexters.payout.domain.stock.domain.repository.DividendYieldRankRepository;
+import nexters.payout.domain.stock.domain.repository.StockLogoCacheRepository;
 import nexters.payout.domain.stock.domain.repository.StockRepository;
 import org.junit.jupiter.api.AfterEach;
+import org.mockito.Answers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -16,9 +21,12 @@ import org.springframework.test.context.ActiveProfiles;
 @SpringBootTest
 @ActiveProfiles("test")
 public abstract class AbstractBatchServiceTest {
-    @MockBean
+    @MockBean(answer = Answers.CALLS_REAL_METHODS)
     public FinancialClient financialClient;
 
+    @MockBean
+    public StockLogo stockLogo;
+
     @Autowired
     public StockRepository stockRepository;
 
@@ -28,6 +36,15 @@ public abstract class AbstractBatchServiceTest {
     @Autowired
     public PortfolioRepository portfolioRepository;
 
+    @Autowired
+    public StockLogoCacheRepository stockLogoCacheRepository;
+
+    @Autowired
+    public DividendYieldRankRepository dividendYieldRankRepository;
+
+    @Autowired
+    public DataVersionRepository dataVersionRepository;
+
     @Autowired
     public StockBatchService stockBatchService;
 
@@ -42,5 +59,7 @@ public abstract class AbstractBatchServiceTest {
         portfolioRepository.deleteAll();
         dividendRepository.deleteAll();
         stockRepository.deleteAll();
+        stockLogoCacheRepository.deleteAll();
+        dividendYieldRankRepository.deleteAll();
     }
 }
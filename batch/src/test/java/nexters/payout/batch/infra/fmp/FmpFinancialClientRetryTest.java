@@ -0,0 +1,154 @@
+package nexters.payout.batch.infra.fmp;
+
+import nexters.payout.batch.application.client.FinancialClient.DividendData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("FMP 클라이언트 재시도 테스트")
+class FmpFinancialClientRetryTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    void 서버_오류_응답은_재시도해서_성공한다() {
+        // given
+        FmpFinancialClient fmpFinancialClient = client(failFirst(Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())));
+
+        // when
+        List<DividendData> actual = fmpFinancialClient.getUpcomingDividendList();
+
+        // then
+        assertAll(
+                () -> assertThat(actual).hasSize(3),
+                () -> assertThat(requests.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 요청_한도_초과_응답은_재시도해서_성공한다() {
+        // given
+        FmpFinancialClient fmpFinancialClient = client(failFirst(Mono.just(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).build())));
+
+        // when
+        List<DividendData> actual = fmpFinancialClient.getUpcomingDividendList();
+
+        // then
+        assertAll(
+                () -> assertThat(actual).hasSize(3),
+                () -> assertThat(requests.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 응답이_시간_내에_오지_않으면_재시도해서_성공한다() {
+        // given
+        FmpFinancialClient fmpFinancialClient = client(failFirst(Mono.never()));
+
+        // when
+        List<DividendData> actual = fmpFinancialClient.getUpcomingDividendList();
+
+        // then
+        assertAll(
+                () -> assertThat(actual).hasSize(3),
+                () -> assertThat(requests.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 본문_수신이_도중에_멈추면_제한_시간_후_재시도해서_성공한다() {
+        // given
+        Flux<DataBuffer> stalledBody = Flux.concat(
+                Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("[{\"symbol\": \"AAPL\", ".getBytes(StandardCharsets.UTF_8))),
+                Flux.never()
+        );
+        FmpFinancialClient fmpFinancialClient = client(failFirst(Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(stalledBody)
+                .build())));
+
+        // when
+        List<DividendData> actual = fmpFinancialClient.getUpcomingDividendList();
+
+        // then
+        assertAll(
+                () -> assertThat(actual).hasSize(3),
+                () -> assertThat(requests.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 클라이언트_오류_응답은_재시도하지_않는다() {
+        // given
+        FmpFinancialClient fmpFinancialClient = client(failFirst(Mono.just(ClientResponse.create(HttpStatus.UNAUTHORIZED).build())));
+
+        // when
+        List<DividendData> actual = fmpFinancialClient.getUpcomingDividendList();
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEmpty(),
+                () -> assertThat(requests.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 응답을_디코딩할_수_없으면_재시도하지_않는다() {
+        // given
+        FmpFinancialClient fmpFinancialClient = client(failFirst(Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("[{\"symbol\": ")
+                .build())));
+
+        // when
+        List<DividendData> actual = fmpFinancialClient.getUpcomingDividendList();
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEmpty(),
+                () -> assertThat(requests.get()).isEqualTo(1)
+        );
+    }
+
+    private FmpFinancialClient client(final ExchangeFunction exchangeFunction) {
+        return new FmpFinancialClient(
+                new FmpProperties("key", "http://fmp.test", "/api/v3/stock/list", "/api/v3/stock-screener",
+                        "/api/v3/symbol/", "/api/v3/stock_dividend_calendar", 4, Duration.ofMillis(300), Duration.ofSeconds(1), 2, Duration.ofMillis(10)),
+                WebClient.builder().exchangeFunction(exchangeFunction)
+        );
+    }
+
+    /**
+     * 첫 요청에는 주어진 응답을, 이후 요청에는 녹화된 배당금 응답을 돌려줍니다.
+     */
+    private ExchangeFunction failFirst(final Mono<ClientResponse> firstResponse) {
+        return request -> {
+            if (requests.incrementAndGet() == 1) {
+                return firstResponse;
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(DataBufferUtils.read(new ClassPathResource("fmp/dividend-calendar.json"), DefaultDataBufferFactory.sharedInstance, 64))
+                    .build());
+        };
+    }
+}
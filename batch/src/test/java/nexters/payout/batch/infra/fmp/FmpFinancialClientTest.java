@@ -0,0 +1,151 @@
+package nexters.payout.batch.infra.fmp;
+
+import nexters.payout.batch.application.client.FinancialClient.DividendData;
+import nexters.payout.batch.application.client.FinancialClient.StockData;
+import nexters.payout.domain.stock.domain.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("FMP 클라이언트 스트리밍 테스트")
+class FmpFinancialClientTest {
+
+    private static final String SYMBOL_PATH = "/api/v3/symbol/";
+
+    private final FmpFinancialClient fmpFinancialClient = new FmpFinancialClient(
+            new FmpProperties("key", "http://fmp.test", "/api/v3/stock/list", "/api/v3/stock-screener",
+                    SYMBOL_PATH, "/api/v3/stock_dividend_calendar", 4, Duration.ofSeconds(5), Duration.ofMinutes(1), 0, Duration.ofMillis(10)),
+            WebClient.builder().exchangeFunction(recordedResponses())
+    );
+
+    @Test
+    void 스크리너와_거래량_응답을_합쳐_청크_단위로_넘긴다() {
+        // given
+        List<List<StockData>> chunks = new ArrayList<>();
+
+        // when
+        long actual = fmpFinancialClient.consumeLatestStocks(2, chunks::add);
+
+        // then
+        Map<String, StockData> stocks = chunks.stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(StockData::ticker, Function.identity()));
+        assertAll(
+                () -> assertThat(actual).isEqualTo(4),
+                () -> assertThat(chunks).extracting(List::size).containsExactly(2, 2),
+                () -> assertThat(stocks.get("AAPL").sector()).isEqualTo(Sector.TECHNOLOGY),
+                () -> assertThat(stocks.get("AAPL").avgVolume()).isEqualTo(110),
+                () -> assertThat(stocks.get("IBM").volume()).isEqualTo(300),
+                () -> assertThat(stocks.get("SPY").sector()).isEqualTo(Sector.ETF),
+                () -> assertThat(stocks.get("SPY").volume()).isNull()
+        );
+    }
+
+    @Test
+    void 다가오는_배당금_응답을_청크_단위로_넘긴다() {
+        // given
+        List<List<DividendData>> chunks = new ArrayList<>();
+
+        // when
+        long actual = fmpFinancialClient.consumeUpcomingDividends(2, chunks::add);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(3),
+                () -> assertThat(chunks).extracting(List::size).containsExactly(2, 1),
+                () -> assertThat(chunks.get(0).get(0).symbol()).isEqualTo("AAPL")
+        );
+    }
+
+    @Test
+    void 여러_섹터에_있는_티커는_응답_순서와_관계없이_앞선_섹터로_넘긴다() {
+        // given
+        ExchangeFunction recorded = recordedResponses();
+        FmpFinancialClient client = new FmpFinancialClient(
+                new FmpProperties("key", "http://fmp.test", "/api/v3/stock/list", "/api/v3/stock-screener",
+                        SYMBOL_PATH, "/api/v3/stock_dividend_calendar", 16, Duration.ofSeconds(5), Duration.ofMinutes(1), 0, Duration.ofMillis(10)),
+                WebClient.builder().exchangeFunction(request -> {
+                    String query = request.url().getQuery() == null ? "" : request.url().getQuery();
+                    if (query.contains("sector=Technology")) {
+                        return recorded.exchange(request).delayElement(Duration.ofMillis(200));
+                    }
+                    if (query.contains("sector=Energy")) {
+                        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .body("[{\"symbol\": \"AAPL\", \"sector\": \"Energy\", \"price\": 190.0}]")
+                                .build());
+                    }
+                    return recorded.exchange(request);
+                })
+        );
+        List<StockData> stocks = new ArrayList<>();
+
+        // when
+        client.consumeLatestStocks(10, stocks::addAll);
+
+        // then
+        StockData actual = stocks.stream()
+                .filter(stock -> stock.ticker().equals("AAPL"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(actual.sector()).isEqualTo(Sector.TECHNOLOGY);
+    }
+
+    /**
+     * 요청 경로와 파라미터에 맞는 녹화된 응답을 작은 DataBuffer로 나누어 돌려줍니다.
+     */
+    private static ExchangeFunction recordedResponses() {
+        return request -> {
+            String fileName = fileName(request.url());
+            Flux<DataBuffer> body = fileName == null
+                    ? Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("[]".getBytes(StandardCharsets.UTF_8)))
+                    : DataBufferUtils.read(new ClassPathResource("fmp/" + fileName), DefaultDataBufferFactory.sharedInstance, 64);
+
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(body)
+                    .build());
+        };
+    }
+
+    private static String fileName(URI url) {
+        String query = url.getQuery() == null ? "" : url.getQuery();
+        if (url.getPath().startsWith(SYMBOL_PATH)) {
+            String exchange = url.getPath().substring(SYMBOL_PATH.length());
+            return new ClassPathResource("fmp/symbol-" + exchange + ".json").exists() ? "symbol-" + exchange + ".json" : null;
+        }
+        if (url.getPath().endsWith("stock_dividend_calendar")) {
+            return "dividend-calendar.json";
+        }
+        if (query.contains("isEtf=true")) {
+            return "screener-etf.json";
+        }
+        if (query.contains("sector=Technology")) {
+            return "screener-technology.json";
+        }
+        return null;
+    }
+}
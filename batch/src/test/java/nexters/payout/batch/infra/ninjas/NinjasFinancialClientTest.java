@@ -0,0 +1,68 @@
+package nexters.payout.batch.infra.ninjas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Ninjas 클라이언트 테스트")
+class NinjasFinancialClientTest {
+
+    @Test
+    void 티커의_로고_주소를_조회한다() {
+        // given
+        NinjasFinancialClient ninjasFinancialClient = client(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("[{\"name\": \"Apple Inc.\", \"ticker\": \"AAPL\", \"image\": \"https://logo.example.com/aapl.png\"}]")
+                .build()));
+
+        // when
+        String actual = ninjasFinancialClient.getLogoUrl("AAPL");
+
+        // then
+        assertThat(actual).isEqualTo("https://logo.example.com/aapl.png");
+    }
+
+    @Test
+    void 로고가_없는_티커는_null을_반환한다() {
+        // given
+        NinjasFinancialClient ninjasFinancialClient = client(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("[]")
+                .build()));
+
+        // when
+        String actual = ninjasFinancialClient.getLogoUrl("UNKNOWN");
+
+        // then
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void 응답이_시간_내에_오지_않으면_로고_없음과_구분되도록_예외가_발생한다() {
+        // given
+        NinjasFinancialClient ninjasFinancialClient = client(request -> Mono.never());
+
+        // when, then
+        assertThatThrownBy(() -> ninjasFinancialClient.getLogoUrl("AAPL"))
+                .hasRootCauseInstanceOf(TimeoutException.class);
+    }
+
+    private NinjasFinancialClient client(final ExchangeFunction exchangeFunction) {
+        return new NinjasFinancialClient(
+                new NinjasProperties("key", "http://ninjas.test", "/v1/logo", Duration.ofMillis(300)),
+                WebClient.builder().exchangeFunction(exchangeFunction)
+        );
+    }
+}
@@ -0,0 +1,76 @@
+// 합성 데이터셋(:domain:loadSyntheticDataset)을 적재한 api-server에 조회 위주의 부하를 줍니다.
+// k6 run -e BASE_URL=http://localhost:8080 -e RATE=2000 -e DURATION=3m benchmarks/load/api-read.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const STOCKS = Number(__ENV.STOCKS || 10000);
+const PORTFOLIOS = Number(__ENV.PORTFOLIOS || 200);
+const SECTORS = ['TECHNOLOGY', 'FINANCIAL_SERVICES', 'HEALTHCARE', 'ETF', 'INDUSTRIALS', 'CONSUMER_CYCLICAL'];
+
+export const options = {
+    scenarios: {
+        read: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 1000),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '3m',
+            preAllocatedVUs: Number(__ENV.VUS || 500),
+            maxVUs: Number(__ENV.MAX_VUS || 5000),
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+};
+
+// SyntheticDataset.tickerOf와 같은 규칙(A, B, ..., Z, AA, AB, ...)으로 티커를 만듭니다.
+function tickerOf(index) {
+    let ticker = '';
+    for (let value = index + 1; value > 0; value = Math.floor((value - 1) / 26)) {
+        ticker = String.fromCharCode(65 + (value - 1) % 26) + ticker;
+    }
+    return ticker;
+}
+
+function randomTicker() {
+    return tickerOf(Math.floor(Math.random() * STOCKS));
+}
+
+function pick(values) {
+    return values[Math.floor(Math.random() * values.length)];
+}
+
+export function setup() {
+    const portfolioIds = [];
+    for (let i = 0; i < PORTFOLIOS; i++) {
+        const tickerShares = [];
+        for (let j = 0; j < 5; j++) {
+            tickerShares.push({ ticker: randomTicker(), share: 1 + Math.floor(Math.random() * 10) });
+        }
+        const response = http.post(`${BASE_URL}/api/portfolios`, JSON.stringify({ tickerShares }), {
+            headers: { 'Content-Type': 'application/json' },
+        });
+        if (response.status === 200) {
+            portfolioIds.push(response.json('id'));
+        }
+    }
+    return { portfolioIds };
+}
+
+export default function (data) {
+    const dice = Math.random();
+    let response;
+    if (dice < 0.35) {
+        response = http.get(`${BASE_URL}/api/stocks/${randomTicker()}`, { tags: { name: 'stock-detail' } });
+    } else if (dice < 0.55) {
+        response = http.get(`${BASE_URL}/api/stocks/search?keyword=${randomTicker().substring(0, 2)}&pageNumber=1&pageSize=20`, { tags: { name: 'search' } });
+    } else if (dice < 0.65) {
+        response = http.get(`${BASE_URL}/api/stocks/dividend-yields/highest?sector=${pick(SECTORS)}&pageNumber=1&pageSize=20`, { tags: { name: 'dividend-yields' } });
+    } else if (dice < 0.75) {
+        response = http.get(`${BASE_URL}/api/stocks/ex-dividend-dates/upcoming?sector=${pick(SECTORS)}&pageNumber=1&pageSize=20`, { tags: { name: 'upcoming' } });
+    } else {
+        const portfolioId = pick(data.portfolioIds);
+        const path = pick(['monthly', 'yearly', 'sector-ratio']);
+        response = http.get(`${BASE_URL}/api/portfolios/${portfolioId}/${path}`, { tags: { name: `portfolio-${path}` } });
+    }
+    check(response, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
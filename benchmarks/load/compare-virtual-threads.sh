@@ -0,0 +1,69 @@
+#!/bin/bash
+# 같은 데이터베이스와 부하로 'prod'와 'prod,virtual' 프로파일의 처리량과 지연 시간을 비교합니다.
+#
+# 준비
+#   1. MySQL을 띄우고 DB_HOSTNAME, DB_PORT, DB_DATABASE, DB_USERNAME, DB_PASSWORD를 export 합니다.
+#   2. ./gradlew :domain:loadSyntheticDataset -Purl=... -Pportfolios=200000 로 합성 데이터셋을 적재합니다.
+#   3. ./gradlew :api-server:bootJar 로 build/libs/api-server.jar를 만듭니다.
+#   4. k6와 jq를 설치합니다.
+#
+# 실행
+#   RATE=2000 DURATION=3m benchmarks/load/compare-virtual-threads.sh
+#
+# 결과는 build/results/load/<커밋>-<프로파일>.json 에 k6 요약으로 저장되고, 마지막에 비교 표를 출력합니다.
+# 비교 표는 benchmarks/load/RESULTS.md 에도 한 줄씩 추가되므로, 측정 후 함께 커밋해 결정 근거로 남깁니다.
+set -euo pipefail
+
+ROOT_DIR=$(cd "$(dirname "$0")/../.." && pwd)
+JAR=${JAR:-$ROOT_DIR/build/libs/api-server.jar}
+RESULT_DIR=$ROOT_DIR/build/results/load
+COMMIT=$(git -C "$ROOT_DIR" rev-parse --short HEAD 2>/dev/null || echo local)
+PROFILES=${PROFILES:-"prod prod,virtual"}
+RATE=${RATE:-2000}
+DURATION=${DURATION:-3m}
+RESULTS_MD=$ROOT_DIR/benchmarks/load/RESULTS.md
+WARMUP=${WARMUP:-30s}
+
+mkdir -p "$RESULT_DIR"
+
+wait_for_health() {
+    for _ in $(seq 1 120); do
+        if curl -fs http://localhost:8081/actuator/health > /dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "api-server did not become healthy" >&2
+    return 1
+}
+
+for profile in $PROFILES; do
+    label=${profile//,/-}
+    echo "== $profile"
+    java ${JAVA_OPTS:-} -jar "$JAR" --spring.profiles.active="$profile" > "$RESULT_DIR/$COMMIT-$label.log" 2>&1 &
+    pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    wait_for_health
+    k6 run --quiet -e RATE="$RATE" -e DURATION="$WARMUP" "$ROOT_DIR/benchmarks/load/api-read.js" > /dev/null
+    k6 run -e RATE="$RATE" -e DURATION="$DURATION" --summary-export "$RESULT_DIR/$COMMIT-$label.json" "$ROOT_DIR/benchmarks/load/api-read.js"
+
+    kill $pid
+    wait $pid 2>/dev/null || true
+    trap - EXIT
+done
+
+printf '\n%-14s %10s %10s %10s %10s %8s\n' profile 'req/s' 'p50(ms)' 'p90(ms)' 'p99(ms)' 'fail(%)'
+for profile in $PROFILES; do
+    label=${profile//,/-}
+    row=$(jq -r --arg profile "$profile" '[$profile,
+            (.metrics.http_reqs.rate | floor),
+            (.metrics.http_req_duration["p(50)"] * 100 | round / 100),
+            (.metrics.http_req_duration["p(90)"] * 100 | round / 100),
+            (.metrics.http_req_duration["p(99)"] * 100 | round / 100),
+            (.metrics.http_req_failed.value * 10000 | round / 100)] | @tsv' \
+        "$RESULT_DIR/$COMMIT-$label.json")
+    echo "$row" | awk -F'\t' '{ printf "%-14s %10s %10s %10s %10s %8s\n", $1, $2, $3, $4, $5, $6 }'
+    echo "$row" | awk -F'\t' -v date="$(date -u +%F)" -v commit="$COMMIT" -v rate="$RATE" -v duration="$DURATION" \
+        '{ printf "| %s | %s | %s | %s/s, %s | %s | %s | %s | %s | %s |\n", date, commit, $1, rate, duration, $2, $3, $4, $5, $6 }' >> "$RESULTS_MD"
+done
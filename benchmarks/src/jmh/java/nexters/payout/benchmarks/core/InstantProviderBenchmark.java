@@ -0,0 +1,58 @@
+package nexters.payout.benchmarks.core;
+
+import nexters.payout.core.time.InstantProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배당금 조회 중 반복 호출되는 InstantProvider 날짜 변환을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InstantProviderBenchmark {
+
+    private Instant date;
+    private YearMonth yearMonth;
+
+    @Setup
+    public void setUp() {
+        date = Instant.parse("2023-12-21T13:45:00Z");
+        yearMonth = YearMonth.of(2023, 12);
+    }
+
+    @Benchmark
+    public LocalDate toLocalDate() {
+        return InstantProvider.toLocalDate(date);
+    }
+
+    @Benchmark
+    public Instant getStartOfDay() {
+        return InstantProvider.getStartOfDay(date);
+    }
+
+    @Benchmark
+    public Instant getStartOfMonth() {
+        return InstantProvider.getStartOfMonth(yearMonth);
+    }
+
+    @Benchmark
+    public Instant getStartOfYear() {
+        return InstantProvider.getStartOfYear(2023);
+    }
+
+    @Benchmark
+    public int getYearMonthDay() {
+        return InstantProvider.getYear(date) + InstantProvider.getMonth(date) + InstantProvider.getDayOfMonth(date);
+    }
+
+    @Benchmark
+    public List<YearMonth> generateNext12Months() {
+        return InstantProvider.generateNext12Months();
+    }
+}
@@ -0,0 +1,194 @@
+package nexters.payout.benchmarks.fmp;
+
+import nexters.payout.batch.application.client.FinancialClient.StockData;
+import nexters.payout.batch.infra.fmp.FmpFinancialClient;
+import nexters.payout.batch.infra.fmp.FmpProperties;
+import nexters.payout.domain.stock.domain.Exchange;
+import nexters.payout.domain.stock.domain.Sector;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static nexters.payout.domain.stock.domain.Sector.ETC;
+import static nexters.payout.domain.stock.domain.Sector.ETF;
+
+/**
+ * 녹화한 FMP 스크리너, 거래량 응답을 파일에서 DataBuffer 단위로 흘려보내며,
+ * 전체 목록을 모은 뒤 나누는 방식과 스트리밍으로 청크를 넘기는 방식의 청크 전달 시점 최대 라이브 힙을 비교합니다.
+ * 라이브 힙은 청크마다 GC 후 측정하므로 실행 시간보다 liveHeapKb 보조 지표를 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class FmpIngestionBenchmark {
+
+    private static final String SYMBOL_PATH = "/api/v3/symbol/";
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Param({"20000", "200000"})
+    private int stocks;
+
+    private Path recorded;
+    private FmpFinancialClient fmpFinancialClient;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LiveHeap {
+
+        public long liveHeapKb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            liveHeapKb = 0;
+        }
+
+        void sample() {
+            System.gc();
+            liveHeapKb = Math.max(liveHeapKb, ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / 1024);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        recorded = Files.createTempDirectory("fmp-recorded");
+        record(new Random(stocks));
+
+        fmpFinancialClient = new FmpFinancialClient(
+                new FmpProperties("key", "http://fmp.test", "/api/v3/stock/list", "/api/v3/stock-screener",
+                        SYMBOL_PATH, "/api/v3/stock_dividend_calendar", 4, Duration.ofMinutes(1), Duration.ofMinutes(10), 0, Duration.ofSeconds(1)),
+                WebClient.builder().exchangeFunction(recordedResponses())
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(recorded)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long buffered(final LiveHeap liveHeap) {
+        List<StockData> stockList = fmpFinancialClient.getLatestStockList();
+        for (int from = 0; from < stockList.size(); from += CHUNK_SIZE) {
+            liveHeap.sample();
+        }
+        return stockList.size();
+    }
+
+    @Benchmark
+    public long streaming(final LiveHeap liveHeap) {
+        return fmpFinancialClient.consumeLatestStocks(CHUNK_SIZE, chunk -> liveHeap.sample());
+    }
+
+    /**
+     * 섹터별 스크리너 응답과 거래소별 거래량 응답을 실제 응답과 같은 필드 구성으로 기록합니다.
+     */
+    private void record(final Random random) throws IOException {
+        List<String> sectors = Sector.getNames()
+                .stream()
+                .filter(sector -> !(sector.equals(ETC.getName()) || sector.equals(ETF.getName())))
+                .toList();
+        Exchange[] exchanges = Exchange.values();
+
+        BufferedWriter[] screeners = new BufferedWriter[sectors.size()];
+        BufferedWriter[] volumes = new BufferedWriter[exchanges.length];
+        for (int i = 0; i < sectors.size(); i++) {
+            screeners[i] = Files.newBufferedWriter(recorded.resolve("screener-" + sectors.get(i) + ".json"));
+            screeners[i].write('[');
+        }
+        for (int i = 0; i < exchanges.length; i++) {
+            volumes[i] = Files.newBufferedWriter(recorded.resolve("symbol-" + exchanges[i].name() + ".json"));
+            volumes[i].write('[');
+        }
+        Files.writeString(recorded.resolve("screener-etf.json"), "[]");
+
+        int[] screenerCounts = new int[sectors.size()];
+        int[] volumeCounts = new int[exchanges.length];
+        for (int i = 0; i < stocks; i++) {
+            String symbol = "T" + i;
+            int sector = random.nextInt(sectors.size());
+            int exchange = random.nextInt(exchanges.length);
+
+            if (screenerCounts[sector]++ > 0) {
+                screeners[sector].write(',');
+            }
+            screeners[sector].write("{\"symbol\":\"" + symbol + "\",\"companyName\":\"" + symbol + " Holdings Corp\","
+                    + "\"exchangeShortName\":\"" + exchanges[exchange].name() + "\",\"price\":" + (1 + random.nextInt(50_000) / 100.0)
+                    + ",\"volume\":" + random.nextInt(10_000_000) + ",\"sector\":\"" + sectors.get(sector) + "\","
+                    + "\"industry\":\"" + sectors.get(sector) + " Services\",\"beta\":1.1,\"lastAnnualDividend\":0.5,"
+                    + "\"country\":\"US\",\"isEtf\":false,\"isActivelyTrading\":true}");
+
+            if (volumeCounts[exchange]++ > 0) {
+                volumes[exchange].write(',');
+            }
+            volumes[exchange].write("{\"symbol\":\"" + symbol + "\",\"volume\":" + random.nextInt(10_000_000)
+                    + ",\"avgVolume\":" + random.nextInt(10_000_000) + ",\"exchange\":\"" + exchanges[exchange].name() + "\"}");
+        }
+
+        for (BufferedWriter writer : screeners) {
+            writer.write(']');
+            writer.close();
+        }
+        for (BufferedWriter writer : volumes) {
+            writer.write(']');
+            writer.close();
+        }
+    }
+
+    private ExchangeFunction recordedResponses() {
+        return request -> {
+            Path file = recorded.resolve(fileName(request.url()));
+            Flux<DataBuffer> body = Files.exists(file)
+                    ? DataBufferUtils.read(file, DefaultDataBufferFactory.sharedInstance, 8192)
+                    : Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("[]".getBytes(StandardCharsets.UTF_8)));
+
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(body)
+                    .build());
+        };
+    }
+
+    private String fileName(final URI url) {
+        if (url.getPath().startsWith(SYMBOL_PATH)) {
+            return "symbol-" + url.getPath().substring(SYMBOL_PATH.length()) + ".json";
+        }
+        String query = url.getRawQuery() == null ? "" : URLDecoder.decode(url.getRawQuery(), StandardCharsets.UTF_8);
+        if (query.contains("isEtf=true")) {
+            return "screener-etf.json";
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith("sector=")) {
+                return "screener-" + parameter.substring("sector=".length()) + ".json";
+            }
+        }
+        throw new IllegalStateException("no recorded response for " + url);
+    }
+}
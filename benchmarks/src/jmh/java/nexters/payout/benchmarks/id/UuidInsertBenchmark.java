@@ -0,0 +1,83 @@
+package nexters.payout.benchmarks.id;
+
+import nexters.payout.domain.dataset.SyntheticDataset;
+import nexters.payout.domain.dataset.SyntheticDataset.Summary;
+import nexters.payout.domain.dataset.SyntheticDatasetSpec;
+import nexters.payout.domain.dataset.SyntheticDatasetSpec.IdScheme;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임의 UUID(v4)와 시간순 UUID(v7)로 합성 데이터셋을 적재할 때의 insert 처리 시간을 비교합니다.
+ * 기본값은 H2 인메모리 데이터베이스이며, 실제 InnoDB 페이지 분할 영향은 -p url=jdbc:mysql://... 로 MySQL을 지정해 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class UuidInsertBenchmark {
+
+    private static final List<String> DROP_TABLES = List.of(
+            "drop table if exists portfolio_stock",
+            "drop table if exists portfolio",
+            "drop table if exists dividend",
+            "drop table if exists stock"
+    );
+
+    private static final List<String> CREATE_TABLES = List.of(
+            "create table stock (id binary(16) not null primary key, ticker varchar(100) not null, name varchar(255), sector varchar(50), exchange varchar(100), industry varchar(255), price double, volume int, logo_url varchar(255), created_at datetime(6), last_modified_at datetime(6))",
+            "create table dividend (id binary(16) not null primary key, stock_id binary(16) not null, dividend double not null, ex_dividend_date datetime(6) not null, payment_date datetime(6) not null, declaration_date datetime(6) not null, created_at datetime(6), last_modified_at datetime(6))",
+            "create table portfolio (id binary(16) not null primary key, expire_at datetime(6), content_hash varchar(64), hits int not null, version bigint not null, created_at datetime(6), last_modified_at datetime(6))",
+            "create table portfolio_stock (portfolio_id binary(16) not null, stock_id binary(16), shares int)"
+    );
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private IdScheme scheme;
+
+    @Param({"20000"})
+    private int portfolios;
+
+    @Param({"jdbc:h2:mem:uuid-insert;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    private String url;
+
+    @Param({"sa"})
+    private String username;
+
+    @Param({""})
+    private String password;
+
+    private JdbcTemplate jdbcTemplate;
+    private SyntheticDatasetSpec spec;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, username, password));
+        spec = SyntheticDatasetSpec.small()
+                .withPortfolios(portfolios)
+                .withIdScheme(scheme);
+    }
+
+    /**
+     * 매 측정마다 빈 테이블에서 적재를 시작하도록 스키마를 다시 만듭니다.
+     */
+    @Setup(Level.Iteration)
+    public void recreateTables() {
+        DROP_TABLES.forEach(jdbcTemplate::execute);
+        CREATE_TABLES.forEach(jdbcTemplate::execute);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DROP_TABLES.forEach(jdbcTemplate::execute);
+    }
+
+    @Benchmark
+    public Summary load() {
+        return SyntheticDataset.of(spec).load(jdbcTemplate);
+    }
+}
@@ -0,0 +1,76 @@
+package nexters.payout.benchmarks.portfolio;
+
+import nexters.payout.apiserver.portfolio.application.dto.response.MonthlyDividendResponse;
+import nexters.payout.apiserver.portfolio.application.dto.response.SingleMonthlyDividendResponse;
+import nexters.payout.apiserver.portfolio.application.dto.response.SingleYearlyDividendResponse;
+import nexters.payout.apiserver.portfolio.application.dto.response.YearlyDividendResponse;
+import nexters.payout.domain.DividendFixture;
+import nexters.payout.domain.PortfolioFixture;
+import nexters.payout.domain.StockFixture;
+import nexters.payout.domain.portfolio.domain.Portfolio;
+import nexters.payout.domain.portfolio.domain.PortfolioStock;
+import nexters.payout.domain.stock.domain.Sector;
+import nexters.payout.domain.stock.domain.Stock;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포트폴리오 보유 종목 수에 따른 월간/연간 배당금 응답 조립 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DividendResponseBenchmark {
+
+    @Param({"10", "100", "5000"})
+    private int holdings;
+
+    private List<SingleMonthlyDividendResponse> monthlyDividends;
+    private List<SingleYearlyDividendResponse> yearlyDividends;
+
+    /**
+     * PortfolioFixture로 보유 종목이 holdings 개인 포트폴리오를 만들고, 보유 종목별 배당금 응답을 미리 만들어 둡니다.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(holdings);
+        Instant exDividendDate = Instant.parse("2023-12-21T00:00:00Z");
+
+        Map<UUID, Stock> stocks = new HashMap<>(holdings);
+        List<PortfolioStock> portfolioStocks = new ArrayList<>(holdings);
+        for (int i = 0; i < holdings; i++) {
+            Stock stock = StockFixture.createStock("T" + i, Sector.TECHNOLOGY, 100.0);
+            stocks.put(stock.getId(), stock);
+            portfolioStocks.add(new PortfolioStock(stock.getId(), 1 + random.nextInt(100)));
+        }
+        Portfolio portfolio = PortfolioFixture.createPortfolio(portfolioStocks);
+
+        monthlyDividends = new ArrayList<>(holdings);
+        yearlyDividends = new ArrayList<>(holdings);
+        for (PortfolioStock portfolioStock : portfolio.portfolioStocks()) {
+            Stock stock = stocks.get(portfolioStock.getStockId());
+            double dividend = random.nextDouble() * 5;
+
+            monthlyDividends.add(SingleMonthlyDividendResponse.of(stock, portfolioStock.getShares(), DividendFixture.createDividend(stock.getId(), dividend, exDividendDate)));
+            yearlyDividends.add(SingleYearlyDividendResponse.of(stock, portfolioStock.getShares(), dividend * 4));
+        }
+    }
+
+    @Benchmark
+    public MonthlyDividendResponse monthlyDividendResponse() {
+        return MonthlyDividendResponse.of(2023, 12, monthlyDividends);
+    }
+
+    @Benchmark
+    public YearlyDividendResponse yearlyDividendResponse() {
+        return YearlyDividendResponse.of(yearlyDividends);
+    }
+}
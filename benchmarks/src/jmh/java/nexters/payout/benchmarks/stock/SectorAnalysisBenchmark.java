@@ -0,0 +1,59 @@
+package nexters.payout.benchmarks.stock;
+
+import nexters.payout.domain.StockFixture;
+import nexters.payout.domain.stock.domain.Sector;
+import nexters.payout.domain.stock.domain.service.SectorAnalysisService;
+import nexters.payout.domain.stock.domain.service.SectorAnalysisService.SectorInfo;
+import nexters.payout.domain.stock.domain.service.SectorAnalysisService.StockShare;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보유 종목 수에 따른 섹터 비중 계산 성능을 기존 구현과 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SectorAnalysisBenchmark {
+
+    @Param({"10", "100", "5000"})
+    private int holdings;
+
+    private final SectorAnalysisService sectorAnalysisService = new SectorAnalysisService();
+    private final LegacySectorAnalysisService legacySectorAnalysisService = new LegacySectorAnalysisService();
+    private List<StockShare> stockShares;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(holdings);
+        Sector[] sectors = Sector.values();
+
+        stockShares = new ArrayList<>(holdings);
+        for (int i = 0; i < holdings; i++) {
+            stockShares.add(new StockShare(
+                    StockFixture.createStock("T" + i, sectors[random.nextInt(sectors.length)], 1.0 + random.nextDouble() * 500),
+                    1 + random.nextInt(100)
+            ));
+        }
+
+        if (!sectorAnalysisService.calculateSectorRatios(stockShares)
+                .equals(legacySectorAnalysisService.calculateSectorRatios(stockShares))) {
+            throw new IllegalStateException("sector ratios differ from the legacy implementation");
+        }
+    }
+
+    @Benchmark
+    public Map<Sector, SectorInfo> singlePass() {
+        return sectorAnalysisService.calculateSectorRatios(stockShares);
+    }
+
+    @Benchmark
+    public Map<Sector, SectorInfo> legacy() {
+        return legacySectorAnalysisService.calculateSectorRatios(stockShares);
+    }
+}
@@ -0,0 +1,23 @@
+package nexters.payout.benchmarks.stock;
+
+import nexters.payout.domain.stock.domain.Sector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FMP 응답의 섹터명을 Sector로 변환하는 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SectorBenchmark {
+
+    @Param({"Technology", "Financial", "Unknown"})
+    private String sectorName;
+
+    @Benchmark
+    public Sector fromName() {
+        return Sector.fromName(sectorName);
+    }
+}
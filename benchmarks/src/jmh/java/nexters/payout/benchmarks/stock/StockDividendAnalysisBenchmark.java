@@ -0,0 +1,73 @@
+package nexters.payout.benchmarks.stock;
+
+import nexters.payout.core.time.InstantProvider;
+import nexters.payout.domain.DividendFixture;
+import nexters.payout.domain.StockFixture;
+import nexters.payout.domain.dividend.domain.Dividend;
+import nexters.payout.domain.stock.domain.Sector;
+import nexters.payout.domain.stock.domain.Stock;
+import nexters.payout.domain.stock.domain.service.StockDividendAnalysisService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배당 주기(연간 지급 횟수)별로 StockDividendAnalysisService의 각 계산을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StockDividendAnalysisBenchmark {
+
+    @Param({"1", "4", "12", "52"})
+    private int paymentsPerYear;
+
+    private final StockDividendAnalysisService stockDividendAnalysisService = new StockDividendAnalysisService();
+    private Stock stock;
+    private List<Dividend> lastYearDividends;
+    private List<Dividend> thisYearDividends;
+
+    @Setup
+    public void setUp() {
+        stock = StockFixture.createStock(StockFixture.AAPL, Sector.TECHNOLOGY, 180.0);
+        lastYearDividends = dividendsOf(InstantProvider.getLastYear());
+        thisYearDividends = dividendsOf(InstantProvider.getThisYear());
+    }
+
+    private List<Dividend> dividendsOf(final int year) {
+        Instant startOfYear = InstantProvider.getStartOfYear(year);
+        long interval = 365 / paymentsPerYear;
+
+        List<Dividend> dividends = new ArrayList<>(paymentsPerYear);
+        for (int i = 0; i < paymentsPerYear; i++) {
+            dividends.add(DividendFixture.createDividend(stock.getId(), 0.24, startOfYear.plus(i * interval, ChronoUnit.DAYS)));
+        }
+        return dividends;
+    }
+
+    @Benchmark
+    public List<Month> calculateDividendMonths() {
+        return stockDividendAnalysisService.calculateDividendMonths(stock, lastYearDividends);
+    }
+
+    @Benchmark
+    public Double calculateDividendYield() {
+        return stockDividendAnalysisService.calculateDividendYield(stock, lastYearDividends);
+    }
+
+    @Benchmark
+    public Optional<Dividend> findUpcomingDividend() {
+        return stockDividendAnalysisService.findUpcomingDividend(lastYearDividends, thisYearDividends);
+    }
+
+    @Benchmark
+    public Double calculateAverageDividend() {
+        return stockDividendAnalysisService.calculateAverageDividend(lastYearDividends);
+    }
+}
@@ -0,0 +1,18 @@
+package nexters.payout.core.id;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID를 binary(16) 컬럼에 저장하는 바이트 배열로 변환합니다.
+ * 상위 비트부터 빅 엔디언으로 담으므로 Hibernate가 저장하는 값, 바이트 비교 순서와 일치합니다.
+ */
+public class UuidBytes {
+
+    public static byte[] toBytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -46,6 +46,18 @@ public class InstantProvider {
         return getNow().plusMonths(1).atStartOfDay(ZoneId.of("UTC")).toInstant();
     }
 
+    public static Instant getStartOfYear(int year) {
+        return LocalDate.of(year, 1, 1).atStartOfDay(UTC).toInstant();
+    }
+
+    public static Instant getStartOfMonth(YearMonth yearMonth) {
+        return yearMonth.atDay(1).atStartOfDay(UTC).toInstant();
+    }
+
+    public static Instant getStartOfDay(Instant date) {
+        return toLocalDate(date).atStartOfDay(UTC).toInstant();
+    }
+
     public static Integer getYear(Instant date) {
         return ZonedDateTime.ofInstant(date, UTC).getYear();
     }
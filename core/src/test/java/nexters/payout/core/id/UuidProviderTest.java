@@ -0,0 +1,47 @@
+package nexters.payout.core.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class UuidProviderTest {
+
+    @Test
+    void 시간순_UUID는_버전_7이고_앞_48비트에_생성_시각을_담는다() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        UUID actual = UuidProvider.timeOrdered();
+
+        // then
+        long timestamp = actual.getMostSignificantBits() >>> 16;
+        assertAll(
+                () -> assertThat(actual.version()).isEqualTo(7),
+                () -> assertThat(actual.variant()).isEqualTo(2),
+                () -> assertThat(timestamp).isGreaterThanOrEqualTo(before)
+        );
+    }
+
+    @Test
+    void 연속으로_생성한_UUID는_binary로_비교해도_항상_증가한다() {
+        // given
+        List<byte[]> generated = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            generated.add(UuidBytes.toBytes(UuidProvider.timeOrdered()));
+        }
+
+        // then
+        for (int i = 1; i < generated.size(); i++) {
+            assertThat(Arrays.compareUnsigned(generated.get(i - 1), generated.get(i))).isNegative();
+        }
+    }
+}
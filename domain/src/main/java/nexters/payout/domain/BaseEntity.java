@@ -2,6 +2,7 @@ package nexters.payout.domain;
 
 import jakarta.persistence.*;
 import lombok.Getter;
+import nexters.payout.domain.common.id.TimeOrderedUuid;
 import nexters.payout.domain.dividend.domain.Dividend;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -16,7 +17,7 @@ import java.util.UUID;
 @Getter
 public class BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "created_at", updatable = false)
@@ -31,6 +32,12 @@ public class BaseEntity {
         this.id = id;
     }
 
+    protected BaseEntity(UUID id, Instant createdAt, Instant lastModifiedAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.lastModifiedAt = lastModifiedAt;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(id);
@@ -0,0 +1,22 @@
+package nexters.payout.domain.common.query;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * JDBC 구문이 실행될 때마다 QueryCounter에 실행 횟수와 시간을 기록합니다. 배치 구문은 한 번의 실행으로 셉니다.
+ */
+public class QueryCountListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        QueryCounter.record(execInfo.getElapsedTime());
+    }
+}
@@ -0,0 +1,36 @@
+package nexters.payout.domain.common.query;
+
+/**
+ * 현재 스레드에서 실행되는 JDBC 구문을 집계합니다.
+ * start()와 stop() 사이에 같은 스레드에서 실행된 구문만 집계되며, 시작하지 않은 스레드의 구문은 무시합니다.
+ * Reactor 스케줄러(boundedElastic 등)나 @Async 스레드로 넘어가 실행된 구문은 집계되지 않습니다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static void start() {
+        CURRENT.set(new QueryStatistics());
+    }
+
+    public static QueryStatistics stop() {
+        QueryStatistics statistics = current();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    public static QueryStatistics current() {
+        QueryStatistics statistics = CURRENT.get();
+        return statistics == null ? new QueryStatistics() : statistics;
+    }
+
+    static void record(final long elapsedMillis) {
+        QueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.record(elapsedMillis);
+        }
+    }
+}
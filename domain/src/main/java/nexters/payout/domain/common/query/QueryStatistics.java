@@ -0,0 +1,18 @@
+package nexters.payout.domain.common.query;
+
+import lombok.Getter;
+
+/**
+ * 한 요청 또는 배치 작업 동안 실행된 JDBC 구문 수와 총 실행 시간입니다.
+ */
+@Getter
+public class QueryStatistics {
+
+    private long count;
+    private long elapsedMillis;
+
+    void record(final long elapsedMillis) {
+        this.count++;
+        this.elapsedMillis += elapsedMillis;
+    }
+}
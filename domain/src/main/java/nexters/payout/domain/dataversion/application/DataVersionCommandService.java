@@ -0,0 +1,31 @@
+package nexters.payout.domain.dataversion.application;
+
+import lombok.RequiredArgsConstructor;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import nexters.payout.domain.dataversion.domain.repository.DataVersionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DataVersionCommandService {
+
+    private final DataVersionRepository dataVersionRepository;
+
+    /**
+     * 버전을 한 번의 update 구문으로 올려 동시에 실행돼도 증가분이 사라지지 않습니다.
+     * 행이 없으면 추가하고, 그 사이 다른 작업이 먼저 추가했다면 다시 올립니다.
+     */
+    public void increase(final DataVersionType type) {
+        Instant now = Instant.now();
+        if (dataVersionRepository.increase(type, now) > 0) {
+            return;
+        }
+        if (dataVersionRepository.insertIfAbsent(type.name(), now) == 0) {
+            dataVersionRepository.increase(type, now);
+        }
+    }
+}
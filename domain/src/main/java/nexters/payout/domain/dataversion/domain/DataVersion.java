@@ -0,0 +1,36 @@
+package nexters.payout.domain.dataversion.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 배치 작업이 데이터를 갱신할 때마다 증가하는 버전으로, API 서버의 캐시 무효화 기준으로 사용됩니다.
+ */
+@Entity
+@Getter
+public class DataVersion {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private DataVersionType type;
+
+    @Column(nullable = false)
+    private Long version;
+
+    private Instant updatedAt;
+
+    public DataVersion() {
+    }
+
+    public DataVersion(final DataVersionType type, final Instant updatedAt) {
+        this.type = type;
+        this.version = 1L;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package nexters.payout.domain.dataversion.domain;
+
+/**
+ * 배치 작업이 갱신하는 데이터의 종류입니다.
+ */
+public enum DataVersionType {
+    STOCK,
+    DIVIDEND
+}
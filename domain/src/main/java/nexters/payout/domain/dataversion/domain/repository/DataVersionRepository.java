@@ -0,0 +1,20 @@
+package nexters.payout.domain.dataversion.domain.repository;
+
+import nexters.payout.domain.dataversion.domain.DataVersion;
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+
+public interface DataVersionRepository extends JpaRepository<DataVersion, DataVersionType> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("update DataVersion d set d.version = d.version + 1, d.updatedAt = :updatedAt where d.type = :type")
+    int increase(DataVersionType type, Instant updatedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "insert ignore into data_version (type, version, updated_at) values (:type, 1, :updatedAt)", nativeQuery = true)
+    int insertIfAbsent(String type, Instant updatedAt);
+}
@@ -7,7 +7,7 @@ import nexters.payout.domain.dividend.domain.repository.DividendRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -16,16 +16,11 @@ public class DividendCommandService {
 
     private final DividendRepository dividendRepository;
 
-    public void saveOrUpdate(UUID stockId, Dividend dividendData) {
-        dividendRepository.findByStockIdAndExDividendDate(stockId, dividendData.getExDividendDate())
-                .ifPresentOrElse(
-                        existing -> existing.update(
-                                dividendData.getDividend(),
-                                dividendData.getPaymentDate(),
-                                dividendData.getDeclarationDate()
-                        ),
-                        () -> dividendRepository.save(dividendData)
-                );
+    /**
+     * 여러 배당금을 하나의 트랜잭션에서 (종목, 배당락일) 기준으로 일괄 추가 또는 갱신합니다.
+     */
+    public void upsertAll(List<Dividend> dividends) {
+        dividendRepository.upsertAll(dividends);
     }
 
     public void deleteInvalidDividend() {
@@ -2,6 +2,9 @@ package nexters.payout.domain.dividend.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import nexters.payout.domain.BaseEntity;
 
@@ -10,6 +13,12 @@ import java.util.UUID;
 
 @Entity
 @Getter
+@Table(
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_dividend_stock_id_ex_dividend_date", columnNames = {"stock_id", "ex_dividend_date"}
+        ),
+        indexes = @Index(name = "idx_dividend_ex_dividend_date", columnList = "ex_dividend_date")
+)
 public class Dividend extends BaseEntity {
 
     @Column(nullable = false, updatable = false)
@@ -4,9 +4,12 @@ import nexters.payout.domain.dividend.domain.Dividend;
 import nexters.payout.domain.dividend.infra.DividendRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface DividendRepository extends JpaRepository<Dividend, UUID>, DividendRepositoryCustom {
     List<Dividend> findAllByStockId(UUID stockId);
+
+    List<Dividend> findAllByStockIdIn(Collection<UUID> stockIds);
 }
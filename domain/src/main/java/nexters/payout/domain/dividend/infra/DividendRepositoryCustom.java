@@ -15,5 +15,7 @@ public interface DividendRepositoryCustom {
     List<Dividend> findAllByIdAndYearAndMonth(UUID id, Integer year, Integer month);
     List<Dividend> findAllByTickerAndYear(String ticker, Integer year);
     List<Dividend> findAllByIdAndYear(UUID id, Integer year);
+    List<Dividend> findAllByIdsAndYear(List<UUID> ids, Integer year);
     void deleteByYearAndCreatedAt(Integer year, Instant createdAt);
+    void upsertAll(List<Dividend> dividends);
 }
@@ -1,13 +1,19 @@
 package nexters.payout.domain.dividend.infra;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import nexters.payout.core.id.UuidBytes;
+import nexters.payout.core.id.UuidProvider;
 import nexters.payout.core.time.InstantProvider;
 import nexters.payout.domain.dividend.domain.Dividend;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
 import java.time.Instant;
-import java.time.ZonedDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,23 +24,31 @@ import static nexters.payout.domain.stock.domain.QStock.stock;
 @Repository
 public class DividendRepositoryImpl implements DividendRepositoryCustom {
 
+    private static final String UPSERT_DIVIDEND = """
+            insert into dividend (id, stock_id, dividend, ex_dividend_date, payment_date, declaration_date, created_at, last_modified_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            on duplicate key update dividend = values(dividend), payment_date = values(payment_date),
+                                    declaration_date = values(declaration_date), last_modified_at = values(last_modified_at)
+            """;
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
-    public DividendRepositoryImpl(EntityManager em) {
+    public DividendRepositoryImpl(EntityManager em, JdbcTemplate jdbcTemplate) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public Optional<Dividend> findByStockIdAndExDividendDate(UUID stockId, Instant date) {
 
+        Instant startOfDay = InstantProvider.getStartOfDay(date);
+
         return Optional.ofNullable(
                 queryFactory
                         .selectFrom(dividend1)
-                        .innerJoin(stock).on(dividend1.stockId.eq(stock.id))
-                        .where(stock.id.eq(stockId)
-                                .and(dividend1.exDividendDate.year().eq(InstantProvider.getYear(date)))
-                                .and(dividend1.exDividendDate.month().eq(InstantProvider.getMonth(date)))
-                                .and(dividend1.exDividendDate.dayOfMonth().eq(InstantProvider.getDayOfMonth(date))))
+                        .where(dividend1.stockId.eq(stockId)
+                                .and(exDividendDateBetween(startOfDay, startOfDay.plus(1, ChronoUnit.DAYS))))
                         .fetchOne()
         );
     }
@@ -45,8 +59,7 @@ public class DividendRepositoryImpl implements DividendRepositoryCustom {
         return queryFactory
                 .selectFrom(dividend1)
                 .innerJoin(stock).on(dividend1.stockId.eq(stock.id))
-                .where(dividend1.exDividendDate.year().eq(year)
-                        .and(dividend1.exDividendDate.month().eq(month))
+                .where(exDividendDateInMonth(YearMonth.of(year, month))
                         .and(stock.ticker.eq(ticker)))
                 .fetch();
     }
@@ -56,10 +69,8 @@ public class DividendRepositoryImpl implements DividendRepositoryCustom {
 
         return queryFactory
                 .selectFrom(dividend1)
-                .innerJoin(stock).on(dividend1.stockId.eq(stock.id))
-                .where(dividend1.exDividendDate.year().eq(year)
-                        .and(dividend1.exDividendDate.month().eq(month))
-                        .and(stock.id.eq(id)))
+                .where(dividend1.stockId.eq(id)
+                        .and(exDividendDateInMonth(YearMonth.of(year, month))))
                 .fetch();
     }
 
@@ -69,7 +80,7 @@ public class DividendRepositoryImpl implements DividendRepositoryCustom {
         return queryFactory
                 .selectFrom(dividend1)
                 .innerJoin(stock).on(dividend1.stockId.eq(stock.id))
-                .where(dividend1.exDividendDate.year().eq(year)
+                .where(exDividendDateInYear(year)
                         .and(stock.ticker.eq(ticker)))
                 .fetch();
     }
@@ -79,23 +90,77 @@ public class DividendRepositoryImpl implements DividendRepositoryCustom {
 
         return queryFactory
                 .selectFrom(dividend1)
-                .innerJoin(stock).on(dividend1.stockId.eq(stock.id))
-                .where(dividend1.exDividendDate.year().eq(year)
-                        .and(stock.id.eq(id)))
+                .where(dividend1.stockId.eq(id)
+                        .and(exDividendDateInYear(year)))
+                .fetch();
+    }
+
+    @Override
+    public List<Dividend> findAllByIdsAndYear(List<UUID> ids, Integer year) {
+
+        return queryFactory
+                .selectFrom(dividend1)
+                .where(dividend1.stockId.in(ids)
+                        .and(exDividendDateInYear(year)))
                 .fetch();
     }
 
     @Override
     public void deleteByYearAndCreatedAt(Integer year, Instant createdAt) {
 
+        Instant startOfDay = InstantProvider.getStartOfDay(createdAt);
+
         queryFactory
                 .delete(dividend1)
-                .where(dividend1.exDividendDate.year().eq(year)
-                        .and(dividend1.createdAt.year().eq(InstantProvider.getYear(createdAt)))
-                        .and(dividend1.createdAt.month().eq(InstantProvider.getMonth(createdAt)))
-                        .and(dividend1.createdAt.dayOfMonth().eq(InstantProvider.getDayOfMonth(createdAt))))
+                .where(exDividendDateInYear(year)
+                        .and(dividend1.createdAt.goe(startOfDay))
+                        .and(dividend1.createdAt.lt(startOfDay.plus(1, ChronoUnit.DAYS))))
                 .execute();
     }
 
+    /**
+     * (종목, 배당락일) 유니크 키 기준으로 없는 배당금은 추가하고, 있는 배당금은 금액과 지급일, 발표일을 갱신하는 insert를 한 번의 배치로 실행합니다.
+     * 조회 후 저장하지 않으므로 같은 작업을 다시 실행하거나 동시에 실행해도 중복 행이 생기지 않습니다.
+     */
+    @Override
+    public void upsertAll(List<Dividend> dividends) {
+        if (dividends.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = dividends.stream()
+                .map(dividend -> new Object[]{
+                        UuidBytes.toBytes(dividend.getId() == null ? UuidProvider.timeOrdered() : dividend.getId()),
+                        UuidBytes.toBytes(dividend.getStockId()), dividend.getDividend(),
+                        toTimestamp(dividend.getExDividendDate()), toTimestamp(dividend.getPaymentDate()),
+                        toTimestamp(dividend.getDeclarationDate()), now, now
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPSERT_DIVIDEND, args);
+    }
+
+    private Timestamp toTimestamp(Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
 
+    /**
+     * 배당락일 컬럼에 함수를 적용하지 않도록 [start, end) 범위 조건으로 변환합니다.
+     */
+    private BooleanExpression exDividendDateBetween(Instant start, Instant end) {
+        return dividend1.exDividendDate.goe(start)
+                .and(dividend1.exDividendDate.lt(end));
+    }
+
+    private BooleanExpression exDividendDateInYear(int year) {
+        return exDividendDateBetween(InstantProvider.getStartOfYear(year), InstantProvider.getStartOfYear(year + 1));
+    }
+
+    private BooleanExpression exDividendDateInMonth(YearMonth yearMonth) {
+        return exDividendDateBetween(
+                InstantProvider.getStartOfMonth(yearMonth),
+                InstantProvider.getStartOfMonth(yearMonth.plusMonths(1))
+        );
+    }
 }
@@ -0,0 +1,31 @@
+package nexters.payout.domain.portfolio.application;
+
+import lombok.RequiredArgsConstructor;
+import nexters.payout.domain.portfolio.domain.Portfolio;
+import nexters.payout.domain.portfolio.domain.repository.PortfolioRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PortfolioCommandService {
+
+    private final PortfolioRepository portfolioRepository;
+
+    /**
+     * 같은 종목 구성의 포트폴리오가 있으면 만료일을 연장해 재사용하고, 없으면 새로 저장합니다.
+     * 만료됐지만 아직 삭제되지 않은 포트폴리오도 연장해 되살립니다.
+     * 동시에 같은 구성을 저장하면 content_hash 유니크 키 위반으로 DataIntegrityViolationException 이 발생합니다.
+     */
+    public UUID saveOrExtend(Portfolio portfolio) {
+        return portfolioRepository.findByContentHash(portfolio.getContentHash())
+                .map(existing -> {
+                    portfolioRepository.extendExpireAt(existing.getId(), portfolio.getExpireAt());
+                    return existing.getId();
+                })
+                .orElseGet(() -> portfolioRepository.saveAndFlush(portfolio).getId());
+    }
+}
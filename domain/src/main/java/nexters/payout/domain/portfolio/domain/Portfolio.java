@@ -12,6 +12,9 @@ import java.util.UUID;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_portfolio_content_hash", columnNames = "content_hash")
+})
 public class Portfolio extends BaseEntity {
 
     @Embedded
@@ -19,6 +22,12 @@ public class Portfolio extends BaseEntity {
 
     private Instant expireAt;
 
+    @Column(length = 64)
+    private String contentHash;
+
+    /**
+     * 같은 종목 구성의 포트폴리오는 하나의 행을 공유하므로, 조회수는 그 구성을 만든 모든 사용자의 조회를 합친 값입니다.
+     */
     private Integer hits;
 
     @Version
@@ -31,6 +40,7 @@ public class Portfolio extends BaseEntity {
     public Portfolio(final UUID id, final Instant expireAt, List<PortfolioStock> stocks) {
         super(id);
         this.portfolioStocks = new PortfolioStocks(stocks);
+        this.contentHash = portfolioStocks.contentHash();
         this.expireAt = expireAt;
         this.hits = 0;
     }
@@ -38,6 +48,7 @@ public class Portfolio extends BaseEntity {
     public Portfolio(final Instant expireAt, List<PortfolioStock> stocks) {
         super(null);
         this.portfolioStocks = new PortfolioStocks(stocks);
+        this.contentHash = portfolioStocks.contentHash();
         this.expireAt = expireAt;
         this.hits = 0;
     }
@@ -46,10 +57,6 @@ public class Portfolio extends BaseEntity {
         return Collections.unmodifiableList(portfolioStocks.stockShares());
     }
 
-    public void incrementHits() {
-        hits++;
-    }
-
     public boolean isExpired() {
         return expireAt.isAfter(Instant.now());
     }
@@ -6,9 +6,15 @@ import jakarta.persistence.Embeddable;
 import jakarta.persistence.JoinColumn;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @NoArgsConstructor
 @Embeddable
@@ -28,4 +34,21 @@ public class PortfolioStocks {
     public List<PortfolioStock> stockShares() {
         return Collections.unmodifiableList(portfolioStocks);
     }
+
+    /**
+     * (종목 ID, 수량) 쌍을 정렬해 만든 SHA-256 해시입니다. 입력 순서와 관계없이 같은 구성이면 같은 값을 반환합니다.
+     */
+    public String contentHash() {
+        String canonical = portfolioStocks.stream()
+                .sorted(Comparator.comparing(PortfolioStock::getStockId).thenComparing(PortfolioStock::getShares))
+                .map(stock -> stock.getStockId() + ":" + stock.getShares())
+                .collect(Collectors.joining(","));
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -1,18 +1,29 @@
 package nexters.payout.domain.portfolio.domain.repository;
 
 import nexters.payout.domain.portfolio.domain.Portfolio;
+import nexters.payout.domain.portfolio.infra.PortfolioRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface PortfolioRepository extends JpaRepository<Portfolio, UUID> {
+public interface PortfolioRepository extends JpaRepository<Portfolio, UUID>, PortfolioRepositoryCustom {
     List<Portfolio> findByExpireAtBefore(Instant date);
 
+    @Query("select p from Portfolio p left join fetch p.portfolioStocks.portfolioStocks where p.id = :id")
+    Optional<Portfolio> findWithStocksById(UUID id);
+
+    Optional<Portfolio> findByContentHash(String contentHash);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Portfolio p set p.expireAt = :expireAt where p.id = :id and p.expireAt < :expireAt")
+    void extendExpireAt(UUID id, Instant expireAt);
+
     @Modifying(clearAutomatically = true)
-    @Query("delete from Portfolio p where p.id in :ids")
-    void deleteAllByIdInQuery(List<UUID> ids);
+    @Query("delete from Portfolio p where p.id in :ids and p.expireAt < :now")
+    void deleteAllByIdInQuery(List<UUID> ids, Instant now);
 }
@@ -0,0 +1,8 @@
+package nexters.payout.domain.portfolio.infra;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface PortfolioRepositoryCustom {
+    void incrementHits(Map<UUID, Long> hits);
+}
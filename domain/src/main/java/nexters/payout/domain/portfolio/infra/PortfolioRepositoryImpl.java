@@ -0,0 +1,39 @@
+package nexters.payout.domain.portfolio.infra;
+
+import lombok.RequiredArgsConstructor;
+import nexters.payout.core.id.UuidBytes;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class PortfolioRepositoryImpl implements PortfolioRepositoryCustom {
+
+    private static final String INCREMENT_HITS = "update portfolio set hits = hits + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 버전을 변경하지 않고 포트폴리오별 누적 조회수를 한 트랜잭션 안에서 한 번의 배치로 반영합니다.
+     * 실패하면 모두 롤백되므로 호출한 쪽에서 조회수를 다시 누적해도 중복 반영되지 않습니다.
+     */
+    @Override
+    @Transactional
+    public void incrementHits(Map<UUID, Long> hits) {
+        if (hits.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = hits.entrySet()
+                .stream()
+                .map(entry -> new Object[]{entry.getValue(), UuidBytes.toBytes(entry.getKey())})
+                .toList();
+
+        jdbcTemplate.batchUpdate(INCREMENT_HITS, args);
+    }
+}
@@ -0,0 +1,46 @@
+package nexters.payout.domain.stock.application;
+
+import lombok.RequiredArgsConstructor;
+import nexters.payout.domain.stock.domain.DividendYieldRank;
+import nexters.payout.domain.stock.domain.Sector;
+import nexters.payout.domain.stock.domain.repository.DividendYieldRankRepository;
+import nexters.payout.domain.stock.domain.repository.StockRepository;
+import nexters.payout.domain.stock.infra.dto.StockDividendYieldDto;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DividendYieldRankCommandService {
+
+    private final StockRepository stockRepository;
+    private final DividendYieldRankRepository dividendYieldRankRepository;
+
+    /**
+     * 해당 연도의 섹터별 배당수익률 순위를 다시 계산해 기존 순위를 덮어쓰고, 덮어쓰지 않은 순위는 삭제합니다.
+     * 갱신 시각은 datetime(6) 컬럼과 비교하므로 마이크로초 단위로 자릅니다.
+     */
+    public void refresh(int lastYear) {
+        List<StockDividendYieldDto> dividendYields = stockRepository.findAllDividendYieldStock(lastYear);
+
+        Map<Sector, Integer> rankings = new EnumMap<>(Sector.class);
+        List<DividendYieldRank> ranks = new ArrayList<>(dividendYields.size());
+        for (StockDividendYieldDto dividendYield : dividendYields) {
+            Sector sector = dividendYield.stock().getSector();
+            int ranking = rankings.merge(sector, 1, Integer::sum);
+            ranks.add(new DividendYieldRank(sector, lastYear, ranking, dividendYield.stock().getId(), dividendYield.dividendYield()));
+        }
+
+        Instant refreshedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        dividendYieldRankRepository.upsertAll(ranks, refreshedAt);
+        dividendYieldRankRepository.deleteAllModifiedBefore(refreshedAt);
+    }
+}
@@ -6,6 +6,9 @@ import nexters.payout.domain.stock.domain.repository.StockRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -13,22 +16,17 @@ public class StockCommandService {
 
     private final StockRepository stockRepository;
 
-    public void create(Stock stockData) {
-        stockRepository.save(stockData);
-    }
-
-    public void update(String ticker, Stock stockData) {
-        stockRepository.findByTicker(ticker)
-                .ifPresent(
-                        existing -> existing.update(stockData.getPrice(), stockData.getVolume(), stockData.getSector())
-                );
+    /**
+     * 여러 종목을 하나의 트랜잭션에서 티커 기준으로 일괄 추가 또는 갱신합니다.
+     */
+    public void upsertAll(List<Stock> stocks) {
+        stockRepository.upsertAll(stocks);
     }
 
-    public void saveOrUpdate(String ticker, Stock stockData) {
-        stockRepository.findByTicker(ticker)
-                .ifPresentOrElse(
-                        existing -> existing.update(stockData.getPrice(), stockData.getVolume(), stockData.getSector()),
-                        () -> stockRepository.save(stockData)
-                );
+    /**
+     * 로고가 없는 종목에 티커별로 조회한 로고 URL을 채웁니다.
+     */
+    public void updateLogoUrls(Map<String, String> logoUrls) {
+        stockRepository.updateLogoUrls(logoUrls);
     }
 }
@@ -0,0 +1,48 @@
+package nexters.payout.domain.stock.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import nexters.payout.domain.BaseEntity;
+
+import java.util.UUID;
+
+/**
+ * 섹터별 작년 배당수익률 순위를 배치 작업에서 미리 계산해 보관합니다.
+ */
+@Entity
+@Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_dividend_yield_rank_sector_year_ranking", columnNames = {"sector", "dividend_year", "ranking"})
+})
+public class DividendYieldRank extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Sector sector;
+
+    @Column(nullable = false)
+    private Integer dividendYear;
+
+    @Column(nullable = false)
+    private Integer ranking;
+
+    @Column(nullable = false)
+    private UUID stockId;
+
+    @Column(nullable = false)
+    private Double dividendYield;
+
+    public DividendYieldRank() {
+        super(null);
+    }
+
+    public DividendYieldRank(final Sector sector, final Integer dividendYear, final Integer ranking,
+                             final UUID stockId, final Double dividendYield) {
+        super(null);
+        this.sector = sector;
+        this.dividendYear = dividendYear;
+        this.ranking = ranking;
+        this.stockId = stockId;
+        this.dividendYield = dividendYield;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import nexters.payout.domain.BaseEntity;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -55,6 +56,24 @@ public class Stock extends BaseEntity {
         this(null, ticker, name, sector, exchange, industry, price, volume, logoUrl);
     }
 
+    /**
+     * 캐시된 값으로 종목을 다시 만들 때 사용하며, 생성/수정 시각도 그대로 유지합니다.
+     */
+    public Stock(final UUID id, final String ticker, final String name,
+                 final Sector sector, final String exchange, final String industry,
+                 final Double price, final Integer volume, final String logoUrl,
+                 final Instant createdAt, final Instant lastModifiedAt) {
+        super(id, createdAt, lastModifiedAt);
+        this.ticker = ticker;
+        this.name = name;
+        this.sector = sector;
+        this.exchange = exchange;
+        this.industry = industry;
+        this.price = price;
+        this.volume = volume;
+        this.logoUrl = logoUrl;
+    }
+
     private void validateTicker(final String ticker) {
         if (ticker.isBlank()) {
             throw new IllegalArgumentException("ticker must not be null or empty");
@@ -0,0 +1,63 @@
+package nexters.payout.domain.stock.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import nexters.payout.domain.BaseEntity;
+
+import java.time.Instant;
+
+/**
+ * 티커별로 조회한 로고 URL을 보관합니다.
+ * 로고가 없다고 확인된 티커는 logoUrl 없이 retryAfter 이후에만 다시 조회하도록 기록합니다.
+ */
+@Entity
+@Getter
+@Table(name = "stock_logo", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_logo_ticker", columnNames = "ticker")
+})
+public class StockLogoCache extends BaseEntity {
+
+    @Column(nullable = false, length = 100)
+    private String ticker;
+
+    private String logoUrl;
+
+    private Instant retryAfter;
+
+    public StockLogoCache() {
+        super(null);
+    }
+
+    private StockLogoCache(final String ticker, final String logoUrl, final Instant retryAfter) {
+        super(null);
+        this.ticker = ticker;
+        this.logoUrl = logoUrl;
+        this.retryAfter = retryAfter;
+    }
+
+    public static StockLogoCache found(final String ticker, final String logoUrl) {
+        return new StockLogoCache(ticker, logoUrl, null);
+    }
+
+    public static StockLogoCache notFound(final String ticker, final Instant retryAfter) {
+        return new StockLogoCache(ticker, null, retryAfter);
+    }
+
+    public void found(final String logoUrl) {
+        this.logoUrl = logoUrl;
+        this.retryAfter = null;
+    }
+
+    public void notFound(final Instant retryAfter) {
+        this.logoUrl = null;
+        this.retryAfter = retryAfter;
+    }
+
+    public boolean hasLogo() {
+        return logoUrl != null;
+    }
+
+    public boolean isRetryableAt(final Instant now) {
+        return !hasLogo() && (retryAfter == null || !retryAfter.isAfter(now));
+    }
+}
@@ -0,0 +1,11 @@
+package nexters.payout.domain.stock.domain.repository;
+
+import nexters.payout.domain.stock.domain.DividendYieldRank;
+import nexters.payout.domain.stock.infra.DividendYieldRankRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface DividendYieldRankRepository extends JpaRepository<DividendYieldRank, UUID>, DividendYieldRankRepositoryCustom {
+    boolean existsByDividendYear(Integer dividendYear);
+}
@@ -0,0 +1,12 @@
+package nexters.payout.domain.stock.domain.repository;
+
+import nexters.payout.domain.stock.domain.StockLogoCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StockLogoCacheRepository extends JpaRepository<StockLogoCache, UUID> {
+    List<StockLogoCache> findAllByTickerIn(Collection<String> tickers);
+}
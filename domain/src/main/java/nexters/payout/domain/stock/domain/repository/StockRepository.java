@@ -12,4 +12,6 @@ public interface StockRepository extends JpaRepository<Stock, UUID>, StockReposi
     Optional<Stock> findByTicker(String ticker);
 
     List<Stock> findAllByTickerIn(List<String> tickers);
+
+    List<Stock> findAllByLogoUrlIsNull();
 }
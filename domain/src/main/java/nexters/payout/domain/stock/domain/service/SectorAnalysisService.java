@@ -4,71 +4,79 @@ import nexters.payout.domain.common.config.DomainService;
 import nexters.payout.domain.stock.domain.Sector;
 import nexters.payout.domain.stock.domain.Stock;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @DomainService
 public class SectorAnalysisService {
 
+    private static final Sector[] SECTORS = Sector.values();
+
     /**
      * 포트폴리오의 섹터 별 비중을 계산합니다.
+     * 보유 종목을 한 번만 순회하면서 섹터 ordinal 기준 배열에 평가금액과 종목을 누적합니다.
      */
     public Map<Sector, SectorInfo> calculateSectorRatios(final List<StockShare> stockShares) {
-        Map<Sector, Integer> sectorCountMap = getSectorCountMap(stockShares);
-        Map<Sector, List<StockShare>> sectorStockMap = getSectorStockMap(stockShares);
-        double totalValue = totalValue(stockShares);
+        ValueSum[] sectorValues = new ValueSum[SECTORS.length];
+        List<StockShare>[] sectorStocks = newStockLists();
+        ValueSum totalValue = new ValueSum();
 
-        Map<Sector, SectorInfo> sectorInfoMap = new HashMap<>();
+        for (StockShare stockShare : stockShares) {
+            int ordinal = stockShare.stock().getSector().ordinal();
+            double value = stockShare.share() * stockShare.stock().getPrice();
 
-        for (Sector sector : Sector.values()) {
-            if (stockCountBySector(sectorCountMap, sector) > 0) {
-                Double sectorRatio = totalValueBySector(stockShares, sector) / totalValue;
-                sectorInfoMap.put(sector, new SectorInfo(sectorRatio, getStocks(sectorStockMap, sector)));
+            if (sectorStocks[ordinal] == null) {
+                sectorStocks[ordinal] = new ArrayList<>();
+                sectorValues[ordinal] = new ValueSum();
             }
+            sectorStocks[ordinal].add(stockShare);
+            sectorValues[ordinal].add(value);
+            totalValue.add(value);
         }
 
-        return sectorInfoMap;
-    }
+        double total = totalValue.sum();
+        Map<Sector, SectorInfo> sectorInfoMap = new EnumMap<>(Sector.class);
+        for (int ordinal = 0; ordinal < SECTORS.length; ordinal++) {
+            if (sectorStocks[ordinal] != null) {
+                Double sectorRatio = sectorValues[ordinal].sum() / total;
+                sectorInfoMap.put(SECTORS[ordinal], new SectorInfo(sectorRatio, sectorStocks[ordinal]));
+            }
+        }
 
-    private Map<Sector, Integer> getSectorCountMap(final List<StockShare> stockShares) {
-        return stockShares
-                .stream()
-                .map(stockShare -> stockShare.stock().getSector())
-                .collect(Collectors.groupingBy(Function.identity(),
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)));
+        return sectorInfoMap;
     }
 
-    private Map<Sector, List<StockShare>> getSectorStockMap(final List<StockShare> stockShares) {
-        return stockShares
-                .stream()
-                .collect(Collectors.groupingBy(stockShare -> stockShare.stock().getSector()));
+    @SuppressWarnings("unchecked")
+    private static List<StockShare>[] newStockLists() {
+        return new List[SECTORS.length];
     }
 
-    private static double totalValue(final List<StockShare> stockShares) {
-        return stockShares
-                .stream()
-                .mapToDouble(stockShare -> stockShare.share() * stockShare.stock().getPrice())
-                .sum();
-    }
+    /**
+     * DoubleStream.sum()과 같은 보정 합산(Kahan summation)으로 기존 계산과 동일한 값을 유지합니다.
+     */
+    private static final class ValueSum {
 
-    private List<StockShare> getStocks(final Map<Sector, List<StockShare>> sectorStockMap, final Sector sector) {
-        return sectorStockMap.getOrDefault(sector, Collections.emptyList());
-    }
+        private double sum;
+        private double compensation;
+        private double simpleSum;
 
-    private Integer stockCountBySector(final Map<Sector, Integer> sectorCountMap, final Sector sector) {
-        return sectorCountMap.getOrDefault(sector, 0);
-    }
+        private void add(final double value) {
+            simpleSum += value;
+            double adjusted = value - compensation;
+            double next = sum + adjusted;
+            compensation = (next - sum) - adjusted;
+            sum = next;
+        }
 
-    private double totalValueBySector(final List<StockShare> stockShares, final Sector sector) {
-        return stockShares
-                .stream()
-                .filter(share -> share.stock().getSector().equals(sector))
-                .mapToDouble(stockShare -> stockShare.share() * stockShare.stock().getPrice())
-                .sum();
+        private double sum() {
+            double result = sum - compensation;
+            if (Double.isNaN(result) && Double.isInfinite(simpleSum)) {
+                return simpleSum;
+            }
+            return result;
+        }
     }
 
     public record SectorInfo(
@@ -0,0 +1,18 @@
+package nexters.payout.domain.stock.infra;
+
+import nexters.payout.domain.stock.domain.DividendYieldRank;
+import nexters.payout.domain.stock.domain.Sector;
+import nexters.payout.domain.stock.infra.dto.StockDividendYieldDto;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface DividendYieldRankRepositoryCustom {
+    List<StockDividendYieldDto> findRankedDividendYieldStock(int lastYear, Sector sector, int pageNumber, int pageSize);
+
+    List<StockDividendYieldDto> findRankedDividendYieldStockAfter(int lastYear, Sector sector, int lastRanking, int pageSize);
+
+    void upsertAll(List<DividendYieldRank> ranks, Instant refreshedAt);
+
+    void deleteAllModifiedBefore(Instant refreshedAt);
+}
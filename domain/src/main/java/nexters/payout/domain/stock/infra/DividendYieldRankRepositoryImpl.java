@@ -0,0 +1,88 @@
+package nexters.payout.domain.stock.infra;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import nexters.payout.core.id.UuidBytes;
+import nexters.payout.core.id.UuidProvider;
+import nexters.payout.domain.stock.domain.DividendYieldRank;
+import nexters.payout.domain.stock.domain.Sector;
+import nexters.payout.domain.stock.infra.dto.StockDividendYieldDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static nexters.payout.domain.stock.domain.QDividendYieldRank.dividendYieldRank;
+import static nexters.payout.domain.stock.domain.QStock.stock;
+
+@Repository
+@RequiredArgsConstructor
+public class DividendYieldRankRepositoryImpl implements DividendYieldRankRepositoryCustom {
+
+    private static final String UPSERT_DIVIDEND_YIELD_RANK = """
+            insert into dividend_yield_rank (id, sector, dividend_year, ranking, stock_id, dividend_yield, created_at, last_modified_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            on duplicate key update stock_id = values(stock_id), dividend_yield = values(dividend_yield),
+                                    last_modified_at = values(last_modified_at)
+            """;
+
+    private static final String DELETE_MODIFIED_BEFORE =
+            "delete from dividend_yield_rank where last_modified_at is null or last_modified_at < ?";
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 순위 구간으로 조회하므로 페이지 크기만큼의 행만 읽습니다.
+     */
+    @Override
+    public List<StockDividendYieldDto> findRankedDividendYieldStock(int lastYear, Sector sector, int pageNumber, int pageSize) {
+        return findRankedDividendYieldStockAfter(lastYear, sector, (pageNumber - 1) * pageSize, pageSize);
+    }
+
+    @Override
+    public List<StockDividendYieldDto> findRankedDividendYieldStockAfter(int lastYear, Sector sector, int lastRanking, int pageSize) {
+        return queryFactory
+                .select(Projections.constructor(StockDividendYieldDto.class, stock, dividendYieldRank.dividendYield, dividendYieldRank.ranking))
+                .from(dividendYieldRank)
+                .innerJoin(stock)
+                .on(stock.id.eq(dividendYieldRank.stockId))
+                .where(dividendYieldRank.sector.eq(sector)
+                        .and(dividendYieldRank.dividendYear.eq(lastYear))
+                        .and(dividendYieldRank.ranking.between(lastRanking + 1, lastRanking + pageSize)))
+                .orderBy(dividendYieldRank.ranking.asc())
+                .fetch();
+    }
+
+    /**
+     * (섹터, 연도, 순위) 유니크 키 기준으로 순위별 종목과 배당수익률을 한 번의 배치로 덮어씁니다.
+     * 기존 행을 지우지 않고 덮어쓰므로 갱신 중에도 순위표가 비지 않습니다.
+     */
+    @Override
+    public void upsertAll(List<DividendYieldRank> ranks, Instant refreshedAt) {
+        if (ranks.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(refreshedAt);
+        List<Object[]> args = ranks.stream()
+                .map(rank -> new Object[]{
+                        UuidBytes.toBytes(UuidProvider.timeOrdered()), rank.getSector().name(), rank.getDividendYear(),
+                        rank.getRanking(), UuidBytes.toBytes(rank.getStockId()), rank.getDividendYield(), now, now
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPSERT_DIVIDEND_YIELD_RANK, args);
+    }
+
+    /**
+     * 이번 갱신에서 덮어쓰지 않은 순위, 즉 지난 연도나 이번에 줄어든 순위 구간의 행을 삭제합니다.
+     */
+    @Override
+    public void deleteAllModifiedBefore(Instant refreshedAt) {
+        jdbcTemplate.update(DELETE_MODIFIED_BEFORE, Timestamp.from(refreshedAt));
+    }
+}
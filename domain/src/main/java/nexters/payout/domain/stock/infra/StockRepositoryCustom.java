@@ -5,12 +5,27 @@ import nexters.payout.domain.stock.domain.Stock;
 import nexters.payout.domain.stock.infra.dto.StockDividendDto;
 import nexters.payout.domain.stock.infra.dto.StockDividendYieldDto;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public interface StockRepositoryCustom {
     List<Stock> findStocksByTickerOrNameWithPriority(String search, Integer pageNumber, Integer pageSize);
 
+    List<Stock> findStocksByTickerOrNameWithPriorityAfter(String search, int lastPriority, String lastTicker, int pageSize);
+
     List<StockDividendDto> findUpcomingDividendStock(Sector sector, int pageNumber, int pageSize);
 
+    List<StockDividendDto> findUpcomingDividendStockAfter(Sector sector, Instant lastExDividendDate, UUID lastDividendId, int pageSize);
+
     List<StockDividendYieldDto> findBiggestDividendYieldStock(int lastYear, Sector sector, int pageNumber, int pageSize);
+
+    List<StockDividendYieldDto> findBiggestDividendYieldStockAfter(int lastYear, Sector sector, Double lastDividendYield, String lastTicker, int pageSize);
+
+    List<StockDividendYieldDto> findAllDividendYieldStock(int lastYear);
+
+    void upsertAll(List<Stock> stocks);
+
+    void updateLogoUrls(Map<String, String> logoUrls);
 }
@@ -4,18 +4,27 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import nexters.payout.core.id.UuidBytes;
+import nexters.payout.core.id.UuidProvider;
+import nexters.payout.core.time.InstantProvider;
 import nexters.payout.domain.stock.domain.QStock;
 import nexters.payout.domain.stock.domain.Sector;
 import nexters.payout.domain.stock.domain.Stock;
 import nexters.payout.domain.stock.infra.dto.StockDividendDto;
 import nexters.payout.domain.stock.infra.dto.StockDividendYieldDto;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import static java.time.ZoneOffset.UTC;
 import static nexters.payout.domain.dividend.domain.QDividend.dividend1;
@@ -26,7 +35,18 @@ import static nexters.payout.domain.stock.domain.QStock.stock;
 public class StockRepositoryImpl implements StockRepositoryCustom {
 
     private static final Double MAX_DIVIDEND_YIELD = 0.9;
+    private static final int DIVIDEND_YIELD_SCALE = 10;
+    private static final String UPSERT_STOCK = """
+            insert into stock (id, ticker, name, sector, exchange, industry, price, volume, logo_url, created_at, last_modified_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            on duplicate key update price = values(price), volume = values(volume), sector = values(sector),
+                                    last_modified_at = values(last_modified_at)
+            """;
+
+    private static final String UPDATE_LOGO_URL = "update stock set logo_url = ?, last_modified_at = ? where ticker = ? and logo_url is null";
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<Stock> findStocksByTickerOrNameWithPriority(String keyword, Integer pageNumber, Integer pageSize) {
@@ -36,25 +56,44 @@ public class StockRepositoryImpl implements StockRepositoryCustom {
         BooleanExpression tickerStartsWith = stock.ticker.startsWith(keyword);
         BooleanExpression nameContains = stock.name.contains(keyword);
 
-        // 정렬 조건
-        OrderSpecifier<Integer> orderByPriority = new CaseBuilder()
-                .when(tickerStartsWith).then(1)
-                .when(nameContains).then(2)
-                .otherwise(3)
-                .asc();
-        OrderSpecifier<String> orderByTicker = stock.ticker.asc();
-        OrderSpecifier<String> orderByName = stock.name.asc();
-
         long offset = (long) (pageNumber - 1) * pageSize;
 
         return queryFactory.selectFrom(stock)
                 .where(tickerStartsWith.or(nameContains))
-                .orderBy(orderByPriority, orderByTicker, orderByName)
+                .orderBy(orderByPriority(tickerStartsWith, nameContains), stock.ticker.asc(), stock.name.asc())
                 .offset(offset)
                 .limit(pageSize)
                 .fetch();
     }
 
+    /**
+     * 직전 페이지의 마지막 종목 우선순위와 티커 이후의 검색 결과를 조회합니다.
+     */
+    @Override
+    public List<Stock> findStocksByTickerOrNameWithPriorityAfter(String keyword, int lastPriority, String lastTicker, int pageSize) {
+
+        BooleanExpression tickerStartsWith = stock.ticker.startsWith(keyword);
+        BooleanExpression nameContainsOnly = stock.name.contains(keyword).and(tickerStartsWith.not());
+
+        BooleanExpression afterCursor = lastPriority == 1
+                ? tickerStartsWith.and(stock.ticker.gt(lastTicker)).or(nameContainsOnly)
+                : nameContainsOnly.and(stock.ticker.gt(lastTicker));
+
+        return queryFactory.selectFrom(stock)
+                .where(afterCursor)
+                .orderBy(orderByPriority(tickerStartsWith, stock.name.contains(keyword)), stock.ticker.asc(), stock.name.asc())
+                .limit(pageSize)
+                .fetch();
+    }
+
+    private OrderSpecifier<Integer> orderByPriority(BooleanExpression tickerStartsWith, BooleanExpression nameContains) {
+        return new CaseBuilder()
+                .when(tickerStartsWith).then(1)
+                .when(nameContains).then(2)
+                .otherwise(3)
+                .asc();
+    }
+
     @Override
     public List<StockDividendDto> findUpcomingDividendStock(Sector sector, int pageNumber, int pageSize) {
 
@@ -63,28 +102,150 @@ public class StockRepositoryImpl implements StockRepositoryCustom {
                 .from(stock)
                 .innerJoin(dividend1).on(stock.id.eq(dividend1.stockId))
                 .where(dividend1.exDividendDate.after(LocalDateTime.now().toInstant(UTC)).and(stock.sector.eq(sector)))
-                .orderBy(dividend1.exDividendDate.asc())
+                .orderBy(dividend1.exDividendDate.asc(), dividend1.id.asc())
                 .offset((long) (pageNumber - 1) * pageSize)
                 .limit(pageSize)
                 .fetch();
     }
 
+    /**
+     * 직전 페이지의 마지막 배당락일과 배당금 ID 이후의 결과를 조회합니다.
+     */
+    @Override
+    public List<StockDividendDto> findUpcomingDividendStockAfter(Sector sector, Instant lastExDividendDate, UUID lastDividendId, int pageSize) {
+
+        BooleanExpression afterCursor = dividend1.exDividendDate.gt(lastExDividendDate)
+                .or(dividend1.exDividendDate.eq(lastExDividendDate).and(dividend1.id.gt(lastDividendId)));
+
+        return queryFactory
+                .select(Projections.constructor(StockDividendDto.class, stock, dividend1))
+                .from(stock)
+                .innerJoin(dividend1).on(stock.id.eq(dividend1.stockId))
+                .where(dividend1.exDividendDate.after(LocalDateTime.now().toInstant(UTC))
+                        .and(stock.sector.eq(sector))
+                        .and(afterCursor))
+                .orderBy(dividend1.exDividendDate.asc(), dividend1.id.asc())
+                .limit(pageSize)
+                .fetch();
+    }
+
     @Override
     public List<StockDividendYieldDto> findBiggestDividendYieldStock(int lastYear, Sector sector, int pageNumber, int pageSize) {
 
-        NumberExpression<Double> dividendYield = dividend1.dividend.sum().coalesce(1.0).divide(stock.price);
+        NumberExpression<Double> dividendYield = roundedDividendYield();
 
         return queryFactory
                 .select(Projections.constructor(StockDividendYieldDto.class, stock, dividendYield))
                 .from(stock)
                 .innerJoin(dividend1)
                 .on(stock.id.eq(dividend1.stockId))
-                .where(dividend1.exDividendDate.year().eq(lastYear).and(stock.sector.eq(sector)))
-                .groupBy(stock.id, stock.price)
-                .orderBy(dividendYield.desc())
+                .where(dividend1.exDividendDate.goe(InstantProvider.getStartOfYear(lastYear))
+                        .and(dividend1.exDividendDate.lt(InstantProvider.getStartOfYear(lastYear + 1)))
+                        .and(stock.sector.eq(sector)))
+                .groupBy(stock.id, stock.price, stock.ticker)
+                .orderBy(dividendYield.desc(), stock.ticker.asc())
                 .having(dividendYield.lt(MAX_DIVIDEND_YIELD))
                 .offset((long) (pageNumber - 1) * pageSize)
                 .limit(pageSize)
                 .fetch();
     }
+
+    /**
+     * 직전 페이지의 마지막 배당수익률과 티커 이후의 결과를 조회합니다.
+     * 다시 계산한 배당수익률이 부동소수점 오차로 직전 값과 달라지지 않도록, 정렬과 비교 모두 반올림한 값을 사용합니다.
+     */
+    @Override
+    public List<StockDividendYieldDto> findBiggestDividendYieldStockAfter(int lastYear, Sector sector, Double lastDividendYield, String lastTicker, int pageSize) {
+
+        NumberExpression<Double> dividendYield = roundedDividendYield();
+
+        BooleanExpression afterCursor = dividendYield.lt(lastDividendYield)
+                .or(dividendYield.eq(lastDividendYield).and(stock.ticker.gt(lastTicker)));
+
+        return queryFactory
+                .select(Projections.constructor(StockDividendYieldDto.class, stock, dividendYield))
+                .from(stock)
+                .innerJoin(dividend1)
+                .on(stock.id.eq(dividend1.stockId))
+                .where(dividend1.exDividendDate.goe(InstantProvider.getStartOfYear(lastYear))
+                        .and(dividend1.exDividendDate.lt(InstantProvider.getStartOfYear(lastYear + 1)))
+                        .and(stock.sector.eq(sector)))
+                .groupBy(stock.id, stock.price, stock.ticker)
+                .orderBy(dividendYield.desc(), stock.ticker.asc())
+                .having(dividendYield.lt(MAX_DIVIDEND_YIELD).and(afterCursor))
+                .limit(pageSize)
+                .fetch();
+    }
+
+    /**
+     * 커서 비교에 쓰는 배당수익률로, 합산 순서에 따른 부동소수점 오차를 없애기 위해 DIVIDEND_YIELD_SCALE 자리에서 반올림합니다.
+     */
+    private NumberExpression<Double> roundedDividendYield() {
+        return Expressions.numberTemplate(Double.class, "round({0}, {1})",
+                dividend1.dividend.sum().coalesce(1.0).divide(stock.price), DIVIDEND_YIELD_SCALE);
+    }
+
+    /**
+     * 모든 섹터의 작년 배당수익률을 섹터 구분 없이 한 번에 계산하며, 배당수익률 내림차순, 티커 오름차순으로 정렬합니다.
+     */
+    @Override
+    public List<StockDividendYieldDto> findAllDividendYieldStock(int lastYear) {
+
+        NumberExpression<Double> dividendYield = dividend1.dividend.sum().coalesce(1.0).divide(stock.price);
+
+        return queryFactory
+                .select(Projections.constructor(StockDividendYieldDto.class, stock, dividendYield))
+                .from(stock)
+                .innerJoin(dividend1)
+                .on(stock.id.eq(dividend1.stockId))
+                .where(dividend1.exDividendDate.goe(InstantProvider.getStartOfYear(lastYear))
+                        .and(dividend1.exDividendDate.lt(InstantProvider.getStartOfYear(lastYear + 1)))
+                        .and(stock.sector.isNotNull()))
+                .groupBy(stock.id, stock.price, stock.ticker)
+                .orderBy(dividendYield.desc(), stock.ticker.asc())
+                .having(dividendYield.lt(MAX_DIVIDEND_YIELD))
+                .fetch();
+    }
+
+    /**
+     * 티커 기준으로 없는 종목은 추가하고, 있는 종목은 현재가, 거래량, 섹터만 갱신하는 insert를 한 번의 배치로 실행합니다.
+     * 영속성 컨텍스트를 거치지 않으므로 호출 전에 조회한 엔티티에는 반영되지 않습니다.
+     */
+    @Override
+    public void upsertAll(List<Stock> stocks) {
+        if (stocks.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = stocks.stream()
+                .map(stock -> new Object[]{
+                        UuidBytes.toBytes(stock.getId() == null ? UuidProvider.timeOrdered() : stock.getId()),
+                        stock.getTicker(), stock.getName(),
+                        stock.getSector() == null ? null : stock.getSector().name(),
+                        stock.getExchange(), stock.getIndustry(), stock.getPrice(), stock.getVolume(),
+                        stock.getLogoUrl(), now, now
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPSERT_STOCK, args);
+    }
+
+    /**
+     * 아직 로고가 없는 종목에만 티커별 로고 URL을 한 번의 배치로 채웁니다.
+     */
+    @Override
+    public void updateLogoUrls(Map<String, String> logoUrls) {
+        if (logoUrls.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = logoUrls.entrySet()
+                .stream()
+                .map(entry -> new Object[]{entry.getValue(), now, entry.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_LOGO_URL, args);
+    }
 }
@@ -4,6 +4,10 @@ import nexters.payout.domain.stock.domain.Stock;
 
 public record StockDividendYieldDto(
         Stock stock,
-        Double dividendYield
+        Double dividendYield,
+        Integer ranking
 ) {
+    public StockDividendYieldDto(Stock stock, Double dividendYield) {
+        this(stock, dividendYield, null);
+    }
 }
@@ -0,0 +1,4 @@
+alter table portfolio
+    add column content_hash varchar(64) null;
+
+create index idx_portfolio_content_hash on portfolio (content_hash);
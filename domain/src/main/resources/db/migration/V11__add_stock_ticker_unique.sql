@@ -0,0 +1,2 @@
+create unique index uk_stock_ticker
+    on stock (ticker);
@@ -0,0 +1,18 @@
+-- 배당락일을 UTC 자정으로 맞춘 뒤, 같은 종목과 배당락일의 배당금 중 가장 최근에 갱신된 행만 남깁니다.
+update dividend
+set ex_dividend_date = timestamp(date(ex_dividend_date))
+where ex_dividend_date <> timestamp(date(ex_dividend_date));
+
+delete d1
+from dividend d1
+         join dividend d2
+              on d1.stock_id = d2.stock_id
+                  and d1.ex_dividend_date = d2.ex_dividend_date
+                  and (coalesce(d1.last_modified_at, '1970-01-01') < coalesce(d2.last_modified_at, '1970-01-01')
+                      or (coalesce(d1.last_modified_at, '1970-01-01') = coalesce(d2.last_modified_at, '1970-01-01')
+                          and d1.id < d2.id));
+
+create unique index uk_dividend_stock_id_ex_dividend_date
+    on dividend (stock_id, ex_dividend_date);
+
+drop index idx_dividend_stock_id_ex_dividend_date on dividend;
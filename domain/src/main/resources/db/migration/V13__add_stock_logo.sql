@@ -0,0 +1,19 @@
+create table stock_logo
+(
+    id binary (16) not null
+        primary key,
+    ticker           varchar(100) not null,
+    logo_url         text,
+    retry_after      datetime(6),
+    created_at       datetime(6),
+    last_modified_at datetime(6),
+    constraint uk_stock_logo_ticker unique (ticker)
+) engine = innodb
+  default charset = utf8mb4;
+
+insert into stock_logo (id, ticker, logo_url, created_at, last_modified_at)
+select uuid_to_bin(uuid(), 1), ticker, logo_url, now(6), now(6)
+from stock
+where ticker is not null
+  and logo_url is not null
+  and logo_url <> '';
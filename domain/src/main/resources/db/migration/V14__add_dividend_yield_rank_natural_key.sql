@@ -0,0 +1,5 @@
+-- 순위는 섹터와 연도별로 1부터 차례로 매겨지므로 기존 행은 (섹터, 연도, 순위) 기준으로 이미 유일합니다.
+create unique index uk_dividend_yield_rank_sector_year_ranking
+    on dividend_yield_rank (sector, dividend_year, ranking);
+
+drop index idx_dividend_yield_rank_sector_year_ranking on dividend_yield_rank;
@@ -0,0 +1,12 @@
+-- 같은 종목 구성의 포트폴리오 중 만료일이 가장 늦은 행만 해시를 남기고, 나머지는 재사용 대상에서 제외합니다.
+update portfolio p1
+    join portfolio p2
+    on p1.content_hash = p2.content_hash
+        and (p1.expire_at < p2.expire_at
+            or (p1.expire_at = p2.expire_at and p1.id < p2.id))
+set p1.content_hash = null;
+
+create unique index uk_portfolio_content_hash
+    on portfolio (content_hash);
+
+drop index idx_portfolio_content_hash on portfolio;
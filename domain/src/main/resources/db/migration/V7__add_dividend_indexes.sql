@@ -0,0 +1,5 @@
+create index idx_dividend_stock_id_ex_dividend_date
+    on dividend (stock_id, ex_dividend_date);
+
+create index idx_dividend_ex_dividend_date
+    on dividend (ex_dividend_date);
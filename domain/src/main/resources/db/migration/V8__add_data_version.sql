@@ -0,0 +1,12 @@
+create table data_version
+(
+    type       enum ('STOCK', 'DIVIDEND') not null
+        primary key,
+    version    bigint      not null,
+    updated_at datetime(6)
+) engine = innodb
+  default charset = utf8mb4;
+
+insert into data_version (type, version, updated_at)
+values ('STOCK', 1, now(6)),
+       ('DIVIDEND', 1, now(6));
@@ -0,0 +1,15 @@
+create table dividend_yield_rank
+(
+    id binary (16) not null
+        primary key,
+    sector           enum ('TECHNOLOGY', 'COMMUNICATION_SERVICES', 'HEALTHCARE', 'CONSUMER_CYCLICAL', 'CONSUMER_DEFENSIVE', 'BASIC_MATERIALS', 'FINANCIAL_SERVICES', 'INDUSTRIALS', 'REAL_ESTATE', 'ENERGY', 'UTILITIES', 'INDUSTRIAL_GOODS', 'FINANCIAL', 'SERVICES', 'CONGLOMERATES', 'ETC', 'ETF') not null,
+    dividend_year    int         not null,
+    ranking          int         not null,
+    stock_id binary (16) not null,
+    dividend_yield   double      not null,
+    created_at       datetime(6),
+    last_modified_at datetime(6)
+) engine = innodb
+  default charset = utf8mb4;
+
+create index idx_dividend_yield_rank_sector_year_ranking on dividend_yield_rank (sector, dividend_year, ranking);
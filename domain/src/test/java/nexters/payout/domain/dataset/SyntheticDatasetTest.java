@@ -0,0 +1,86 @@
+package nexters.payout.domain.dataset;
+
+import nexters.payout.domain.dataset.SyntheticDataset.Summary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class SyntheticDatasetTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    void 설정한_규모만큼_종목_배당금_포트폴리오를_적재한다() {
+        // given
+        SyntheticDatasetSpec spec = SyntheticDatasetSpec.small();
+
+        // when
+        Summary actual = SyntheticDataset.of(spec).load(jdbcTemplate);
+
+        // then
+        assertAll(
+                () -> assertThat(count("select count(*) from stock")).isEqualTo(spec.stocks()),
+                () -> assertThat(count("select count(*) from dividend")).isEqualTo(actual.dividends()).isPositive(),
+                () -> assertThat(count("select count(*) from portfolio")).isEqualTo(spec.portfolios()),
+                () -> assertThat(count("select count(*) from portfolio_stock")).isEqualTo(actual.portfolioStocks()),
+                () -> assertThat(count("select count(*) from stock where sector = 'ETF'")).isPositive(),
+                () -> assertThat(count("select count(*) from portfolio where expire_at < current_timestamp")).isPositive()
+        );
+    }
+
+    @Test
+    void 같은_시드로_적재하면_같은_데이터가_만들어진다() {
+        // given
+        SyntheticDatasetSpec spec = SyntheticDatasetSpec.small().withPortfolios(100);
+        SyntheticDataset.of(spec).load(jdbcTemplate);
+        List<String> expected = stocks();
+        clear();
+
+        // when
+        SyntheticDataset.of(spec).load(jdbcTemplate);
+
+        // then
+        assertThat(stocks()).isEqualTo(expected);
+    }
+
+    @Test
+    void 포트폴리오_구성은_서로_겹치지_않는다() {
+        // given
+        SyntheticDatasetSpec spec = SyntheticDatasetSpec.small();
+
+        // when
+        SyntheticDataset.of(spec).load(jdbcTemplate);
+
+        // then
+        assertThat(count("select count(distinct content_hash) from portfolio")).isEqualTo(spec.portfolios());
+    }
+
+    private List<String> stocks() {
+        return jdbcTemplate.queryForList("select concat(ticker, sector, price) from stock order by ticker", String.class);
+    }
+
+    private long count(String query) {
+        return jdbcTemplate.queryForObject(query, Long.class);
+    }
+
+    private void clear() {
+        jdbcTemplate.update("delete from portfolio_stock");
+        jdbcTemplate.update("delete from portfolio");
+        jdbcTemplate.update("delete from dividend");
+        jdbcTemplate.update("delete from stock");
+    }
+}
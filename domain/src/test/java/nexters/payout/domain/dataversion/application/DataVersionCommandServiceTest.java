@@ -0,0 +1,69 @@
+package nexters.payout.domain.dataversion.application;
+
+import nexters.payout.domain.dataversion.domain.DataVersionType;
+import nexters.payout.domain.dataversion.domain.repository.DataVersionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DataVersionCommandServiceTest {
+
+    @Autowired
+    private DataVersionCommandService dataVersionCommandService;
+
+    @Autowired
+    private DataVersionRepository dataVersionRepository;
+
+    @AfterEach
+    void tearDown() {
+        dataVersionRepository.deleteAll();
+    }
+
+    @Test
+    void 버전이_없으면_1로_추가하고_이후에는_1씩_올린다() {
+        // when
+        dataVersionCommandService.increase(DataVersionType.STOCK);
+        dataVersionCommandService.increase(DataVersionType.STOCK);
+
+        // then
+        assertThat(dataVersionRepository.findById(DataVersionType.STOCK).get().getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void 동시에_버전을_올려도_증가분이_사라지지_않는다() throws Exception {
+        // given
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                dataVersionCommandService.increase(DataVersionType.DIVIDEND);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(dataVersionRepository.findById(DataVersionType.DIVIDEND).get().getVersion()).isEqualTo((long) threadCount);
+    }
+}
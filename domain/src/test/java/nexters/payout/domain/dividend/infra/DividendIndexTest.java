@@ -0,0 +1,81 @@
+package nexters.payout.domain.dividend.infra;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class DividendIndexTest {
+
+    private static final String STOCK_ID = "X'0123456789ABCDEF0123456789ABCDEF'";
+    private static final String START_OF_YEAR = "TIMESTAMP '2023-01-01 00:00:00'";
+    private static final String START_OF_NEXT_YEAR = "TIMESTAMP '2024-01-01 00:00:00'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM dividend");
+    }
+
+    @Test
+    void 종목과_배당락일_범위로_조회하면_유니크_키_인덱스를_사용한다() {
+        // given
+        String query = "SELECT * FROM dividend WHERE stock_id = " + STOCK_ID +
+                " AND ex_dividend_date >= " + START_OF_YEAR +
+                " AND ex_dividend_date < " + START_OF_NEXT_YEAR;
+
+        // when
+        String actual = explain(query);
+
+        // then
+        assertThat(actual).containsIgnoringCase("uk_dividend_stock_id_ex_dividend_date");
+    }
+
+    @Test
+    void 배당락일_범위로만_조회하면_배당락일_인덱스를_사용한다() {
+        // given
+        String query = "SELECT * FROM dividend WHERE ex_dividend_date >= " + START_OF_YEAR +
+                " AND ex_dividend_date < " + START_OF_NEXT_YEAR;
+
+        // when
+        String actual = explain(query);
+
+        // then
+        assertThat(actual).containsIgnoringCase("idx_dividend_ex_dividend_date");
+    }
+
+    @Test
+    void 배당락일_컬럼에_함수를_적용하면_인덱스를_사용하지_못한다() {
+        // given
+        String query = "SELECT * FROM dividend WHERE EXTRACT(YEAR FROM ex_dividend_date) = 2023";
+
+        // when
+        String actual = explain(query);
+
+        // then
+        assertThat(actual).containsIgnoringCase("tableScan");
+    }
+
+    private String explain(String query) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + query, String.class);
+    }
+
+    @Test
+    void 같은_종목과_배당락일의_배당금은_중복으로_저장할_수_없다() {
+        // given
+        String insert = "INSERT INTO dividend (id, stock_id, dividend, ex_dividend_date) VALUES (?, " + STOCK_ID + ", 1.0, " + START_OF_YEAR + ")";
+        jdbcTemplate.update(insert, (Object) new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+
+        // when, then
+        assertThatThrownBy(() -> jdbcTemplate.update(insert, (Object) new byte[]{16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1}))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+}
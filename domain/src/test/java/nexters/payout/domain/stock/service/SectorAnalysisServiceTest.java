@@ -57,4 +57,27 @@ class SectorAnalysisServiceTest {
                 () -> assertThat(actualTechnologySectorInfo.stockShares()).isEqualTo(List.of(new StockShare(tsla, 1)))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void 같은_섹터의_티커들은_입력_순서대로_묶어_비율을_합산한다() {
+        // given
+        Stock appl = StockFixture.createStock(StockFixture.AAPL, Sector.TECHNOLOGY, 4.0);
+        Stock tsla = StockFixture.createStock(StockFixture.TSLA, Sector.CONSUMER_CYCLICAL, 1.0);
+        Stock sbux = StockFixture.createStock(StockFixture.SBUX, Sector.TECHNOLOGY, 2.0);
+        List<StockShare> stockShares = List.of(new StockShare(appl, 1), new StockShare(tsla, 2), new StockShare(sbux, 2));
+        SectorAnalysisService sectorAnalysisService = new SectorAnalysisService();
+
+        // when
+        Map<Sector, SectorInfo> actual = sectorAnalysisService.calculateSectorRatios(stockShares);
+
+        // then
+        SectorInfo actualTechnologySectorInfo = actual.get(Sector.TECHNOLOGY);
+
+        assertAll(
+                () -> assertThat(actual).hasSize(2),
+                () -> assertThat(actualTechnologySectorInfo.ratio()).isCloseTo(0.8, within(0.001)),
+                () -> assertThat(actualTechnologySectorInfo.stockShares()).isEqualTo(List.of(new StockShare(appl, 1), new StockShare(sbux, 2))),
+                () -> assertThat(actual.get(Sector.CONSUMER_CYCLICAL).ratio()).isCloseTo(0.2, within(0.001))
+        );
+    }
+}
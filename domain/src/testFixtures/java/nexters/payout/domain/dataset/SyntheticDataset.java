@@ -0,0 +1,321 @@
+package nexters.payout.domain.dataset;
+
+import nexters.payout.core.id.UuidBytes;
+import nexters.payout.core.id.UuidProvider;
+import nexters.payout.core.time.InstantProvider;
+import nexters.payout.domain.PortfolioFixture;
+import nexters.payout.domain.dataset.SyntheticDatasetSpec.IdScheme;
+import nexters.payout.domain.dividend.domain.Dividend;
+import nexters.payout.domain.portfolio.domain.Portfolio;
+import nexters.payout.domain.portfolio.domain.PortfolioStock;
+import nexters.payout.domain.stock.domain.Exchange;
+import nexters.payout.domain.stock.domain.Sector;
+import nexters.payout.domain.stock.domain.Stock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * 운영 규모의 종목, 배당금, 포트폴리오 데이터를 시드 기반으로 생성해 JDBC 배치 insert로 적재합니다.
+ * Flyway 마이그레이션 또는 Hibernate로 스키마가 만들어진 빈 데이터베이스(H2, MySQL)를 대상으로 합니다.
+ * MySQL에서는 배치 insert가 한 번에 전송되도록 URL에 rewriteBatchedStatements=true를 지정해야 합니다.
+ */
+public class SyntheticDataset {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String INSERT_STOCK = "insert into stock (id, ticker, name, sector, exchange, industry, price, volume, logo_url, created_at, last_modified_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DIVIDEND = "insert into dividend (id, stock_id, dividend, ex_dividend_date, payment_date, declaration_date, created_at, last_modified_at) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PORTFOLIO = "insert into portfolio (id, expire_at, content_hash, hits, version, created_at, last_modified_at) values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PORTFOLIO_STOCK = "insert into portfolio_stock (portfolio_id, stock_id, shares) values (?, ?, ?)";
+
+    /**
+     * 실제 미국 상장 종목 분포와 비슷하게 기술, 금융, 헬스케어 섹터와 ETF의 비중을 높게 둡니다.
+     */
+    private static final Map<Sector, Integer> SECTOR_WEIGHTS = new LinkedHashMap<>();
+
+    static {
+        SECTOR_WEIGHTS.put(Sector.TECHNOLOGY, 16);
+        SECTOR_WEIGHTS.put(Sector.FINANCIAL_SERVICES, 14);
+        SECTOR_WEIGHTS.put(Sector.HEALTHCARE, 13);
+        SECTOR_WEIGHTS.put(Sector.ETF, 12);
+        SECTOR_WEIGHTS.put(Sector.INDUSTRIALS, 10);
+        SECTOR_WEIGHTS.put(Sector.CONSUMER_CYCLICAL, 9);
+        SECTOR_WEIGHTS.put(Sector.REAL_ESTATE, 6);
+        SECTOR_WEIGHTS.put(Sector.COMMUNICATION_SERVICES, 5);
+        SECTOR_WEIGHTS.put(Sector.CONSUMER_DEFENSIVE, 4);
+        SECTOR_WEIGHTS.put(Sector.ENERGY, 4);
+        SECTOR_WEIGHTS.put(Sector.BASIC_MATERIALS, 3);
+        SECTOR_WEIGHTS.put(Sector.UTILITIES, 3);
+        SECTOR_WEIGHTS.put(Sector.ETC, 1);
+    }
+
+    private static final String[] NAME_PREFIXES = {
+            "Global", "American", "United", "First", "National", "Pacific", "Atlantic", "General", "Advanced", "Digital"
+    };
+    private static final String[] NAME_SUFFIXES = {"Holdings", "Corp", "Group", "Inc", "Partners", "Trust"};
+
+    private final SyntheticDatasetSpec spec;
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private SyntheticDataset(final SyntheticDatasetSpec spec) {
+        this.spec = spec;
+    }
+
+    public static SyntheticDataset of(final SyntheticDatasetSpec spec) {
+        return new SyntheticDataset(spec);
+    }
+
+    /**
+     * 데이터셋을 적재하고 테이블별 적재 건수를 반환합니다.
+     */
+    public Summary load(final JdbcTemplate jdbcTemplate) {
+        long startedAt = System.nanoTime();
+        Random random = new Random(spec.seed());
+
+        List<Stock> stocks = generateStocks(random);
+        batchInsert(jdbcTemplate, INSERT_STOCK, stocks.stream().map(this::stockRow).collect(Collectors.toCollection(ArrayList::new)));
+
+        long dividends = loadDividends(jdbcTemplate, random, stocks);
+        long[] portfolios = loadPortfolios(jdbcTemplate, random, stocks);
+
+        return new Summary(stocks.size(), dividends, portfolios[0], portfolios[1],
+                Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private List<Stock> generateStocks(final Random random) {
+        List<Stock> stocks = new ArrayList<>(spec.stocks());
+        for (int i = 0; i < spec.stocks(); i++) {
+            Sector sector = pickSector(random);
+            String ticker = tickerOf(i);
+            String name = NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)] + " " + ticker + " "
+                    + (sector == Sector.ETF ? "ETF" : NAME_SUFFIXES[random.nextInt(NAME_SUFFIXES.length)]);
+            Exchange exchange = sector == Sector.ETF ? Exchange.AMEX : Exchange.values()[random.nextInt(2)];
+            double price = Math.round(Math.exp(1 + random.nextDouble() * 6) * 100) / 100.0;
+
+            stocks.add(new Stock(id(random), ticker, name, sector, exchange.name(), sector.getName(),
+                    price, random.nextInt(10_000_000), "https://logo.example.com/" + ticker + ".png"));
+        }
+        return stocks;
+    }
+
+    /**
+     * 종목의 약 40%는 무배당, 나머지는 분기(대다수), 월, 반기, 연 배당으로 나눕니다. ETF는 월 배당 비중이 높습니다.
+     */
+    private long loadDividends(final JdbcTemplate jdbcTemplate, final Random random, final List<Stock> stocks) {
+        int thisYear = InstantProvider.getThisYear();
+        LocalDate lastDeclared = InstantProvider.getNow().plusDays(90);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        long count = 0;
+
+        for (Stock stock : stocks) {
+            int paymentsPerYear = paymentsPerYear(random, stock.getSector() == Sector.ETF);
+            if (paymentsPerYear == 0) {
+                continue;
+            }
+
+            double dividend = Math.round(stock.getPrice() * (0.005 + random.nextDouble() * 0.07) / paymentsPerYear * 10_000) / 10_000.0;
+            int firstMonth = 1 + random.nextInt(12 / paymentsPerYear);
+            int dayOfMonth = 1 + random.nextInt(28);
+
+            for (int year = thisYear - spec.dividendYears() + 1; year <= thisYear; year++) {
+                for (int month = firstMonth; month <= 12; month += 12 / paymentsPerYear) {
+                    LocalDate exDividendDate = LocalDate.of(year, month, dayOfMonth);
+                    if (exDividendDate.isAfter(lastDeclared)) {
+                        break;
+                    }
+
+                    Dividend row = new Dividend(id(random), stock.getId(), dividend, toInstant(exDividendDate),
+                            toInstant(exDividendDate.plusDays(14)), toInstant(exDividendDate.minusDays(30)));
+                    rows.add(dividendRow(row));
+                    count++;
+                    flushIfFull(jdbcTemplate, INSERT_DIVIDEND, rows);
+                }
+            }
+        }
+        batchInsert(jdbcTemplate, INSERT_DIVIDEND, rows);
+        return count;
+    }
+
+    private int paymentsPerYear(final Random random, final boolean etf) {
+        int bucket = random.nextInt(100);
+        if (etf) {
+            return bucket < 10 ? 0 : bucket < 50 ? 12 : 4;
+        }
+        if (bucket < 40) {
+            return 0;
+        }
+        if (bucket < 85) {
+            return 4;
+        }
+        if (bucket < 92) {
+            return 12;
+        }
+        return bucket < 97 ? 2 : 1;
+    }
+
+    /**
+     * 인기 종목에 보유가 몰리도록 종목을 거듭제곱 분포로 고르고, expiredRatio 만큼은 이미 만료된 포트폴리오로 만듭니다.
+     * 이미 만든 구성과 content_hash가 같으면 다시 뽑아 모든 포트폴리오의 구성이 서로 다릅니다.
+     */
+    private long[] loadPortfolios(final JdbcTemplate jdbcTemplate, final Random random, final List<Stock> stocks) {
+        List<Object[]> portfolioRows = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> portfolioStockRows = new ArrayList<>(BATCH_SIZE);
+        long portfolioStocks = 0;
+        Set<String> contentHashes = new HashSet<>();
+
+        for (int i = 0; i < spec.portfolios(); i++) {
+            boolean expired = random.nextDouble() < spec.expiredRatio();
+            Instant expireAt = expired
+                    ? now.minus(1 + random.nextInt(60), ChronoUnit.DAYS)
+                    : now.plus(1 + random.nextInt(30), ChronoUnit.DAYS);
+            Portfolio portfolio;
+            do {
+                portfolio = PortfolioFixture.createPortfolio(id(random), expireAt, drawShares(random, stocks));
+            } while (!contentHashes.add(portfolio.getContentHash()));
+
+            portfolioRows.add(new Object[]{
+                    UuidBytes.toBytes(portfolio.getId()), Timestamp.from(expireAt), portfolio.getContentHash(),
+                    random.nextInt(1_000), 0L, timestamp(), timestamp()
+            });
+            for (PortfolioStock stock : portfolio.portfolioStocks()) {
+                portfolioStockRows.add(new Object[]{UuidBytes.toBytes(portfolio.getId()), UuidBytes.toBytes(stock.getStockId()), stock.getShares()});
+                portfolioStocks++;
+            }
+
+            if (flushIfFull(jdbcTemplate, INSERT_PORTFOLIO, portfolioRows)) {
+                batchInsert(jdbcTemplate, INSERT_PORTFOLIO_STOCK, portfolioStockRows);
+            }
+        }
+        batchInsert(jdbcTemplate, INSERT_PORTFOLIO, portfolioRows);
+        batchInsert(jdbcTemplate, INSERT_PORTFOLIO_STOCK, portfolioStockRows);
+        return new long[]{spec.portfolios(), portfolioStocks};
+    }
+
+    /**
+     * 포트폴리오 구성은 content_hash 유니크 키로 구분되므로, 같은 구성이 다시 나오면 호출한 쪽에서 새로 뽑습니다.
+     */
+    private List<PortfolioStock> drawShares(final Random random, final List<Stock> stocks) {
+        int holdings = 1 + (int) (spec.maxHoldings() * Math.pow(random.nextDouble(), 2));
+        Map<UUID, PortfolioStock> shares = new LinkedHashMap<>();
+        for (int j = 0; j < holdings; j++) {
+            Stock stock = stocks.get((int) (stocks.size() * Math.pow(random.nextDouble(), 3)));
+            shares.putIfAbsent(stock.getId(), new PortfolioStock(stock.getId(), 1 + random.nextInt(100)));
+        }
+        return new ArrayList<>(shares.values());
+    }
+
+    private Object[] stockRow(final Stock stock) {
+        return new Object[]{
+                UuidBytes.toBytes(stock.getId()), stock.getTicker(), stock.getName(), stock.getSector().name(), stock.getExchange(),
+                stock.getIndustry(), stock.getPrice(), stock.getVolume(), stock.getLogoUrl(), timestamp(), timestamp()
+        };
+    }
+
+    private Object[] dividendRow(final Dividend dividend) {
+        return new Object[]{
+                UuidBytes.toBytes(dividend.getId()), UuidBytes.toBytes(dividend.getStockId()), dividend.getDividend(),
+                Timestamp.from(dividend.getExDividendDate()), Timestamp.from(dividend.getPaymentDate()),
+                Timestamp.from(dividend.getDeclarationDate()), timestamp(), timestamp()
+        };
+    }
+
+    private boolean flushIfFull(final JdbcTemplate jdbcTemplate, final String sql, final List<Object[]> rows) {
+        if (rows.size() < BATCH_SIZE) {
+            return false;
+        }
+        batchInsert(jdbcTemplate, sql, rows);
+        return true;
+    }
+
+    private void batchInsert(final JdbcTemplate jdbcTemplate, final String sql, final List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+        rows.clear();
+    }
+
+    private Sector pickSector(final Random random) {
+        int totalWeight = SECTOR_WEIGHTS.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = random.nextInt(totalWeight);
+        for (Map.Entry<Sector, Integer> entry : SECTOR_WEIGHTS.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        return Sector.ETC;
+    }
+
+    /**
+     * 0부터 A, B, ..., Z, AA, AB 순으로 겹치지 않는 티커를 만듭니다.
+     */
+    private static String tickerOf(final int index) {
+        StringBuilder ticker = new StringBuilder();
+        for (int value = index + 1; value > 0; value = (value - 1) / 26) {
+            ticker.append((char) ('A' + (value - 1) % 26));
+        }
+        return ticker.reverse().toString();
+    }
+
+    private UUID id(final Random random) {
+        if (spec.idScheme() == IdScheme.TIME_ORDERED) {
+            return UuidProvider.timeOrdered();
+        }
+        return randomUuid(random);
+    }
+
+    private static UUID randomUuid(final Random random) {
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static Instant toInstant(final LocalDate date) {
+        return date.atStartOfDay(UTC).toInstant();
+    }
+
+    private Timestamp timestamp() {
+        return Timestamp.from(now);
+    }
+
+    public record Summary(
+            int stocks,
+            long dividends,
+            long portfolios,
+            long portfolioStocks,
+            Duration elapsed
+    ) {
+    }
+
+    /**
+     * 로컬 MySQL에 적재합니다.
+     * ./gradlew :domain:loadSyntheticDataset -Purl=jdbc:mysql://localhost:3306/payout?rewriteBatchedStatements=true -Pusername=root -Ppassword= [-Pportfolios=100000]
+     */
+    public static void main(final String[] args) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(args[0], args[1], args.length > 2 ? args[2] : "");
+        SyntheticDatasetSpec spec = args.length > 3
+                ? SyntheticDatasetSpec.production().withPortfolios(Integer.parseInt(args[3]))
+                : SyntheticDatasetSpec.production();
+
+        Summary summary = SyntheticDataset.of(spec).load(new JdbcTemplate(dataSource));
+        System.out.println(summary);
+    }
+}
@@ -0,0 +1,68 @@
+package nexters.payout.domain.dataset;
+
+/**
+ * 합성 데이터셋의 규모와 시드입니다. 같은 값이면 항상 같은 데이터를 생성합니다.
+ *
+ * @param seed             난수 시드
+ * @param stocks           종목 수 (ETF 포함)
+ * @param dividendYears    올해를 포함해 배당금을 생성할 연도 수
+ * @param portfolios       포트폴리오 수
+ * @param maxHoldings      포트폴리오 당 최대 보유 종목 수
+ * @param expiredRatio     만료된 포트폴리오 비율
+ * @param idScheme         ID 생성 방식
+ */
+public record SyntheticDatasetSpec(
+        long seed,
+        int stocks,
+        int dividendYears,
+        int portfolios,
+        int maxHoldings,
+        double expiredRatio,
+        IdScheme idScheme
+) {
+
+    public SyntheticDatasetSpec {
+        if (stocks <= 0 || dividendYears <= 0 || portfolios < 0 || maxHoldings <= 0) {
+            throw new IllegalArgumentException("dataset sizes must be positive");
+        }
+        if (expiredRatio < 0 || expiredRatio > 1) {
+            throw new IllegalArgumentException("expiredRatio must be between 0 and 1");
+        }
+        if (idScheme == null) {
+            throw new IllegalArgumentException("idScheme must not be null");
+        }
+    }
+
+    /**
+     * 테스트에서 빠르게 적재할 수 있는 작은 규모입니다.
+     */
+    public static SyntheticDatasetSpec small() {
+        return new SyntheticDatasetSpec(42L, 500, 3, 2_000, 10, 0.3, IdScheme.RANDOM);
+    }
+
+    /**
+     * 운영 환경과 비슷한 규모입니다. (종목 약 1만, 배당금 수십만, 포트폴리오 수백만 건)
+     */
+    public static SyntheticDatasetSpec production() {
+        return new SyntheticDatasetSpec(42L, 10_000, 5, 2_000_000, 20, 0.3, IdScheme.RANDOM);
+    }
+
+    public SyntheticDatasetSpec withPortfolios(final int portfolios) {
+        return new SyntheticDatasetSpec(seed, stocks, dividendYears, portfolios, maxHoldings, expiredRatio, idScheme);
+    }
+
+    public SyntheticDatasetSpec withIdScheme(final IdScheme idScheme) {
+        return new SyntheticDatasetSpec(seed, stocks, dividendYears, portfolios, maxHoldings, expiredRatio, idScheme);
+    }
+
+    public enum IdScheme {
+        /**
+         * 시드 기반의 임의 UUID(v4)로, 같은 시드면 같은 ID가 만들어집니다.
+         */
+        RANDOM,
+        /**
+         * 엔티티 ID 생성과 같은 시간순 UUID(v7)입니다.
+         */
+        TIME_ORDERED
+    }
+}